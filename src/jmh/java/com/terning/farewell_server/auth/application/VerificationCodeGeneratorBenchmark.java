@@ -0,0 +1,66 @@
+package com.terning.farewell_server.auth.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerificationCodeGeneratorBenchmark {
+
+    private static final int RING_SIZE = 1024;
+
+    private VerificationCodeGenerator stripedGenerator;
+    private VerificationCodeGenerator pregeneratedGenerator;
+
+    @Setup
+    public void setUp() {
+        stripedGenerator = generator(false);
+        pregeneratedGenerator = generator(true);
+    }
+
+    @Setup(Level.Iteration)
+    public void refill() {
+        pregeneratedGenerator.refill();
+    }
+
+    @Benchmark
+    public String newSecureRandomPerCall() {
+        SecureRandom secureRandom = new SecureRandom();
+        return String.valueOf(100000 + secureRandom.nextInt(900000));
+    }
+
+    @Benchmark
+    public String stripedDrbg() {
+        return stripedGenerator.generate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = RING_SIZE)
+    @Measurement(iterations = 20, batchSize = RING_SIZE)
+    public String pregeneratedRing() {
+        return pregeneratedGenerator.generate();
+    }
+
+    private VerificationCodeGenerator generator(boolean pregenerate) {
+        VerificationCodeGenerator generator = new VerificationCodeGenerator();
+        ReflectionTestUtils.setField(generator, "stripeCount", Runtime.getRuntime().availableProcessors());
+        ReflectionTestUtils.setField(generator, "pregenerateEnabled", pregenerate);
+        ReflectionTestUtils.setField(generator, "ringSize", RING_SIZE);
+        generator.init();
+        return generator;
+    }
+}
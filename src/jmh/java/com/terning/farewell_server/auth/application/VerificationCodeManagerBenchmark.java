@@ -0,0 +1,56 @@
+package com.terning.farewell_server.auth.application;
+
+import com.terning.farewell_server.global.common.RedisService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerificationCodeManagerBenchmark {
+
+    private VerificationCodeManager verificationCodeManager;
+
+    @Setup
+    public void setUp() {
+        VerificationCodeGenerator generator = new VerificationCodeGenerator();
+        ReflectionTestUtils.setField(generator, "stripeCount", Runtime.getRuntime().availableProcessors());
+        generator.init();
+        verificationCodeManager = new VerificationCodeManager(new InMemoryRedisService(), generator);
+    }
+
+    @Benchmark
+    public String issueCode() {
+        return verificationCodeManager.issueCode("benchmark@example.com");
+    }
+
+    private static class InMemoryRedisService extends RedisService {
+
+        private final Map<String, String> store = new ConcurrentHashMap<>();
+
+        InMemoryRedisService() {
+            super(null, null);
+        }
+
+        @Override
+        public void setDataWithExpiration(String key, String value, Duration duration) {
+            store.put(key, value);
+        }
+
+        @Override
+        public String getData(String key) {
+            return store.get(key);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.terning.farewell_server.auth.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY = "dGhpc2lzYW5leGFtcGxlb2Zhc2VjdXJlYW5kcmFuZG9tbHlnZW5lcmF0ZWRzZWNyZXRrZXlmb3Jqd3Q=";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKeyString", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "expirationTime", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 10000L);
+        jwtUtil.init();
+        token = jwtUtil.generateTemporaryToken("benchmark@example.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtUtil.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Optional<Authentication> authenticateCached() {
+        return jwtUtil.authenticate(token);
+    }
+}
@@ -0,0 +1,76 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.FarewellServerApplication;
+import com.terning.farewell_server.event.dto.request.SetStockRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventConsumerHarnessBenchmark {
+
+    private static final String TOPIC = "event-application-benchmark";
+    private static final int OPEN_STOCK = Integer.MAX_VALUE;
+
+    @Param({"open", "soldOut"})
+    public String stock;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private GenericContainer<?> redisContainer;
+    private ConfigurableApplicationContext context;
+    private EventConsumer eventConsumer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        redisContainer.start();
+
+        context = new SpringApplicationBuilder(FarewellServerApplication.class).run(
+                "--spring.profiles.active=test",
+                "--spring.data.redis.host=" + redisContainer.getHost(),
+                "--spring.data.redis.port=" + redisContainer.getMappedPort(6379),
+                "--spring.jpa.show-sql=false",
+                "--spring.kafka.listener.auto-startup=false",
+                "--spring.kafka.admin.auto-create=false",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN"
+        );
+        eventConsumer = context.getBean(EventConsumer.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStock() {
+        int count = "open".equals(stock) ? OPEN_STOCK : 0;
+        context.getBean(EventAdminService.class).setEventStock(new SetStockRequest(count));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        redisContainer.stop();
+    }
+
+    @Benchmark
+    public void handleApplication() {
+        String email = "harness-" + stock + "-" + sequence.incrementAndGet() + "@example.com";
+        eventConsumer.handleApplication(email, TOPIC, 0);
+    }
+}
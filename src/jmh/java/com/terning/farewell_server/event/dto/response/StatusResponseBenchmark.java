@@ -0,0 +1,41 @@
+package com.terning.farewell_server.event.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.event.success.EventSuccessCode;
+import com.terning.farewell_server.global.success.SuccessResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatusResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public StatusResponse from() {
+        return StatusResponse.from(ApplicationStatus.SUCCESS);
+    }
+
+    @Benchmark
+    public byte[] serializeSuccessResponse() throws JsonProcessingException {
+        StatusResponse statusResponse = StatusResponse.from(ApplicationStatus.SUCCESS);
+        return objectMapper.writeValueAsBytes(SuccessResponse.of(EventSuccessCode.GET_EVENT_STATUS_SUCCESS, statusResponse));
+    }
+}
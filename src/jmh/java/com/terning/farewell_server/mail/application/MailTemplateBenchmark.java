@@ -0,0 +1,54 @@
+package com.terning.farewell_server.mail.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MailTemplateBenchmark {
+
+    private static final String CODE = "123456";
+
+    private SpringTemplateEngine templateEngine;
+    private MailTemplateCache mailTemplateCache;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        mailTemplateCache = new MailTemplateCache(templateEngine);
+        mailTemplateCache.init();
+    }
+
+    @Benchmark
+    public String thymeleafProcess() {
+        Context context = new Context();
+        context.setVariable("code", CODE);
+        return templateEngine.process("verificationCode", context);
+    }
+
+    @Benchmark
+    public String renderVerificationBody() {
+        return mailTemplateCache.renderVerificationBody(CODE);
+    }
+}
@@ -1,30 +1,88 @@
 package com.terning.farewell_server.application.application;
 
 import com.terning.farewell_server.application.domain.Application;
+import com.terning.farewell_server.application.domain.ApplicationJdbcRepository;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
 import com.terning.farewell_server.application.domain.ApplicationRepository;
 import com.terning.farewell_server.application.domain.ApplicationStatus;
 import com.terning.farewell_server.application.exception.ApplicationErrorCode;
 import com.terning.farewell_server.application.exception.ApplicationException;
+import com.terning.farewell_server.mail.application.MailOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ApplicationService {
 
     private final ApplicationRepository applicationRepository;
+    private final ApplicationJdbcRepository applicationJdbcRepository;
+    private final MailOutboxService mailOutboxService;
+    private final MeterRegistry meterRegistry;
+
+    private Timer existsCheckTimer;
+    private Timer insertTimer;
+    private Timer batchInsertTimer;
+
+    @PostConstruct
+    public void init() {
+        existsCheckTimer = saveTimer("exists-check");
+        insertTimer = saveTimer("insert");
+        batchInsertTimer = saveTimer("batch-insert");
+    }
 
     @Transactional
     public void saveApplication(String email, ApplicationStatus status) {
-        if (applicationRepository.existsByEmail(email)) {
+        if (existsCheckTimer.record(() -> applicationRepository.existsByEmail(email))) {
             log.warn("이미 처리된 이벤트 신청입니다. (중복 메시지 수신) Email: {}", email);
             return;
         }
-        Application application = Application.from(email, status);
-        applicationRepository.save(application);
+
+        insertTimer.record(() -> {
+            applicationRepository.save(Application.from(email, status));
+            if (status == ApplicationStatus.SUCCESS) {
+                mailOutboxService.enqueueConfirmations(List.of(email));
+            }
+        });
+    }
+
+    @Transactional
+    public List<ApplicationOutcome> saveApplications(List<ApplicationOutcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return List.of();
+        }
+
+        List<ApplicationOutcome> newOutcomes = batchInsertTimer.record(() -> applicationJdbcRepository.insertIgnoringDuplicates(outcomes));
+
+        mailOutboxService.enqueueConfirmations(newOutcomes.stream()
+                .filter(ApplicationOutcome::isSuccess)
+                .map(ApplicationOutcome::email)
+                .toList());
+
+        if (newOutcomes.size() < outcomes.size()) {
+            log.warn("이미 처리된 이벤트 신청 {}건을 건너뜁니다. (중복 메시지 수신)", outcomes.size() - newOutcomes.size());
+        }
+        return newOutcomes;
+    }
+
+    @Transactional
+    public List<String> promoteToWinners(List<String> emails) {
+        List<Application> failedApplications = applicationRepository.findAllByEmailIn(emails).stream()
+                .filter(application -> application.getStatus() == ApplicationStatus.FAILURE)
+                .toList();
+        failedApplications.forEach(Application::promoteToSuccess);
+
+        List<String> promotedEmails = failedApplications.stream().map(Application::getEmail).toList();
+        mailOutboxService.enqueueConfirmations(promotedEmails);
+        return promotedEmails;
     }
 
     @Transactional(readOnly = true)
@@ -33,4 +91,12 @@ public class ApplicationService {
                 .map(Application::getStatus)
                 .orElseThrow(() -> new ApplicationException(ApplicationErrorCode.APPLICATION_NOT_FOUND));
     }
+
+    private Timer saveTimer(String step) {
+        return Timer.builder("application.save")
+                .description("신청 결과 저장 단계별 소요 시간")
+                .tag("step", step)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
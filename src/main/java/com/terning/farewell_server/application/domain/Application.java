@@ -37,4 +37,8 @@ public class Application extends BaseTimeEntity {
     public static Application from(String email, ApplicationStatus status) {
         return new Application(email, status);
     }
+
+    public void promoteToSuccess() {
+        this.status = ApplicationStatus.SUCCESS;
+    }
 }
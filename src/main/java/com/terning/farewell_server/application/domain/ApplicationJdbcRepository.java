@@ -0,0 +1,87 @@
+package com.terning.farewell_server.application.domain;
+
+import com.terning.farewell_server.application.exception.ApplicationErrorCode;
+import com.terning.farewell_server.application.exception.ApplicationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ApplicationJdbcRepository {
+
+    private static final String INSERT_IGNORE_SQL_PREFIX =
+            "INSERT IGNORE INTO application (email, status, created_at, updated_at) VALUES ";
+    private static final String INSERT_ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+    private static final String SELECT_EXISTING_SQL_PREFIX = "SELECT email FROM application WHERE email IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${event.persistence.batch-size:500}")
+    private int batchSize;
+
+    public List<ApplicationOutcome> insertIgnoringDuplicates(List<ApplicationOutcome> outcomes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<ApplicationOutcome> uniqueOutcomes = uniqueByEmail(outcomes);
+
+        List<ApplicationOutcome> insertedOutcomes = new ArrayList<>();
+        for (int from = 0; from < uniqueOutcomes.size(); from += batchSize) {
+            List<ApplicationOutcome> chunk = uniqueOutcomes.subList(from, Math.min(from + batchSize, uniqueOutcomes.size()));
+            insertedOutcomes.addAll(insertChunk(chunk, now));
+        }
+        return insertedOutcomes;
+    }
+
+    private List<ApplicationOutcome> insertChunk(List<ApplicationOutcome> chunk, Timestamp now) {
+        Set<String> existingEmails = findExistingEmails(chunk);
+        List<ApplicationOutcome> candidates = chunk.stream()
+                .filter(outcome -> !existingEmails.contains(outcome.email()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<Object> args = new ArrayList<>(candidates.size() * 4);
+        for (ApplicationOutcome outcome : candidates) {
+            args.add(outcome.email());
+            args.add(outcome.status().name());
+            args.add(now);
+            args.add(now);
+        }
+
+        int inserted = jdbcTemplate.update(
+                INSERT_IGNORE_SQL_PREFIX + String.join(", ", Collections.nCopies(candidates.size(), INSERT_ROW_PLACEHOLDER)),
+                args.toArray()
+        );
+        if (inserted != candidates.size()) {
+            throw new ApplicationException(ApplicationErrorCode.APPLICATION_BATCH_CONFLICT);
+        }
+        return candidates;
+    }
+
+    private Set<String> findExistingEmails(List<ApplicationOutcome> chunk) {
+        List<String> existing = jdbcTemplate.queryForList(
+                SELECT_EXISTING_SQL_PREFIX + "(" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                String.class,
+                chunk.stream().map(ApplicationOutcome::email).toArray()
+        );
+        return new HashSet<>(existing);
+    }
+
+    private List<ApplicationOutcome> uniqueByEmail(List<ApplicationOutcome> outcomes) {
+        Map<String, ApplicationOutcome> unique = new LinkedHashMap<>();
+        outcomes.forEach(outcome -> unique.putIfAbsent(outcome.email(), outcome));
+        return new ArrayList<>(unique.values());
+    }
+}
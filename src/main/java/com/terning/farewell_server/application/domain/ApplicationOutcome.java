@@ -0,0 +1,12 @@
+package com.terning.farewell_server.application.domain;
+
+public record ApplicationOutcome(String email, ApplicationStatus status) {
+
+    public static ApplicationOutcome of(String email, ApplicationStatus status) {
+        return new ApplicationOutcome(email, status);
+    }
+
+    public boolean isSuccess() {
+        return status == ApplicationStatus.SUCCESS;
+    }
+}
@@ -1,12 +1,21 @@
 package com.terning.farewell_server.application.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
     boolean existsByEmail(String email);
 
+    @Transactional(readOnly = true)
     Optional<Application> findByEmail(String email);
+
+    List<Application> findAllByEmailIn(Collection<String> emails);
+
+    long countByStatusAndUpdatedAtBetween(ApplicationStatus status, LocalDateTime from, LocalDateTime to);
 }
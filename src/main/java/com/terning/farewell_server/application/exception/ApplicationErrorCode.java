@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @Getter
 @RequiredArgsConstructor
 public enum ApplicationErrorCode implements ErrorCode {
-    APPLICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "신청 내역을 찾을 수 없습니다.");
+    APPLICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "신청 내역을 찾을 수 없습니다."),
+    APPLICATION_BATCH_CONFLICT(HttpStatus.CONFLICT, "일괄 저장 중 다른 요청이 같은 신청을 먼저 저장했습니다. 다시 시도해 주세요.");
 
     private static final String PREFIX = "[APPLICATION ERROR] ";
 
@@ -4,14 +4,20 @@ import com.terning.farewell_server.auth.application.AuthService;
 import com.terning.farewell_server.auth.dto.request.EmailRequest;
 import com.terning.farewell_server.auth.dto.request.VerifyCodeRequest;
 import com.terning.farewell_server.auth.dto.response.AuthenticationResponse;
+import com.terning.farewell_server.auth.dto.response.VerificationDeliveryResponse;
+import com.terning.farewell_server.auth.dto.response.VerificationRequestResponse;
+import com.terning.farewell_server.auth.success.AuthSuccessCode;
 import com.terning.farewell_server.global.success.GlobalSuccessCode;
 import com.terning.farewell_server.global.success.SuccessResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -27,6 +33,21 @@ public class AuthController {
         return ResponseEntity.ok(SuccessResponse.from(GlobalSuccessCode.OK));
     }
 
+    @PostMapping("/send-verification-code/async")
+    public ResponseEntity<SuccessResponse<VerificationRequestResponse>> sendVerificationCodeAsync(@Valid @RequestBody EmailRequest request) {
+        VerificationRequestResponse response = new VerificationRequestResponse(authService.sendVerificationCodeAsync(request.email()));
+        return new ResponseEntity<>(
+                SuccessResponse.of(AuthSuccessCode.VERIFICATION_CODE_QUEUED, response),
+                HttpStatus.ACCEPTED
+        );
+    }
+
+    @GetMapping("/verification-code/delivery-status")
+    public ResponseEntity<SuccessResponse<VerificationDeliveryResponse>> getVerificationDeliveryStatus(@RequestParam String requestId) {
+        VerificationDeliveryResponse response = VerificationDeliveryResponse.from(authService.getVerificationDeliveryStatus(requestId));
+        return ResponseEntity.ok(SuccessResponse.of(AuthSuccessCode.GET_VERIFICATION_DELIVERY_STATUS_SUCCESS, response));
+    }
+
     @PostMapping("/verify-code")
     public ResponseEntity<SuccessResponse<AuthenticationResponse>> verifyCode(@Valid @RequestBody VerifyCodeRequest request) {
         String token = authService.verifyEmailCode(request.email(), request.code());
@@ -1,7 +1,11 @@
 package com.terning.farewell_server.auth.application;
 
+import com.terning.farewell_server.auth.exception.AuthErrorCode;
+import com.terning.farewell_server.auth.exception.AuthException;
 import com.terning.farewell_server.auth.jwt.JwtUtil;
 import com.terning.farewell_server.mail.application.EmailService;
+import com.terning.farewell_server.mail.application.VerificationMailDispatcher;
+import com.terning.farewell_server.mail.domain.MailDeliveryStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,12 +16,23 @@ public class AuthService {
     private final EmailService emailService;
     private final VerificationCodeManager verificationCodeManager;
     private final JwtUtil jwtUtil;
+    private final VerificationMailDispatcher verificationMailDispatcher;
 
     public void sendVerificationCode(String email) {
         String code = verificationCodeManager.issueCode(email);
         emailService.sendVerificationCode(email, code);
     }
 
+    public String sendVerificationCodeAsync(String email) {
+        String code = verificationCodeManager.issueCode(email);
+        return verificationMailDispatcher.dispatch(email, code);
+    }
+
+    public MailDeliveryStatus getVerificationDeliveryStatus(String requestId) {
+        return verificationMailDispatcher.getDeliveryStatus(requestId)
+                .orElseThrow(() -> new AuthException(AuthErrorCode.VERIFICATION_DELIVERY_NOT_FOUND));
+    }
+
     public String verifyEmailCode(String email, String code) {
         verificationCodeManager.verifyCode(email, code);
 
@@ -0,0 +1,89 @@
+package com.terning.farewell_server.auth.application;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Slf4j
+@Component
+public class VerificationCodeGenerator {
+
+    private static final String DRBG_ALGORITHM = "DRBG";
+    private static final int CODE_ORIGIN = 100000;
+    private static final int CODE_BOUND = 1000000;
+
+    private final AtomicLong readCursor = new AtomicLong();
+
+    private SecureRandom[] stripes;
+    private AtomicReferenceArray<String> ring;
+    private int ringMask;
+
+    @Value("${auth.verification-code.stripes:0}")
+    private int stripeCount;
+
+    @Value("${auth.verification-code.pregenerate.enabled:true}")
+    private boolean pregenerateEnabled;
+
+    @Value("${auth.verification-code.pregenerate.ring-size:1024}")
+    private int ringSize;
+
+    @PostConstruct
+    public void init() {
+        int size = stripeCount > 0 ? stripeCount : Runtime.getRuntime().availableProcessors();
+        stripes = new SecureRandom[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = newDrbg();
+        }
+
+        if (pregenerateEnabled) {
+            int capacity = Integer.highestOneBit(Math.max(ringSize - 1, 1)) << 1;
+            ring = new AtomicReferenceArray<>(capacity);
+            ringMask = capacity - 1;
+            refill();
+        }
+    }
+
+    public String generate() {
+        if (ring != null) {
+            String code = ring.getAndSet((int) (readCursor.getAndIncrement() & ringMask), null);
+            if (code != null) {
+                return code;
+            }
+        }
+        return createCode();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.verification-code.pregenerate.refill-interval-ms:200}")
+    public void refill() {
+        if (ring == null) {
+            return;
+        }
+        for (int i = 0; i < ring.length(); i++) {
+            if (ring.get(i) == null) {
+                ring.compareAndSet(i, null, createCode());
+            }
+        }
+    }
+
+    String createCode() {
+        SecureRandom secureRandom = stripes[ThreadLocalRandom.current().nextInt(stripes.length)];
+        return String.valueOf(secureRandom.nextInt(CODE_ORIGIN, CODE_BOUND));
+    }
+
+    private SecureRandom newDrbg() {
+        try {
+            return SecureRandom.getInstance(DRBG_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            log.warn("DRBG 알고리즘을 사용할 수 없어 기본 SecureRandom을 사용합니다.", e);
+            return new SecureRandom();
+        }
+    }
+}
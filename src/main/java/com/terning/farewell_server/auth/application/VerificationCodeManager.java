@@ -2,43 +2,55 @@ package com.terning.farewell_server.auth.application;
 
 import com.terning.farewell_server.auth.exception.AuthErrorCode;
 import com.terning.farewell_server.auth.exception.AuthException;
+import com.terning.farewell_server.global.common.CompareAndDeleteResult;
 import com.terning.farewell_server.global.common.RedisService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.SecureRandom;
 import java.time.Duration;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class VerificationCodeManager {
 
     private final RedisService redisService;
+    private final VerificationCodeGenerator verificationCodeGenerator;
 
     private static final String VERIFICATION_CODE_PREFIX = "verification:";
+    private static final String VERIFICATION_ATTEMPTS_PREFIX = "verification:attempts:";
     private static final Duration VERIFICATION_CODE_TTL = Duration.ofMinutes(5);
 
+    @Value("${auth.verification-code.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${auth.verification-code.lockout-ms:600000}")
+    private long lockoutMs;
+
     public String issueCode(String email) {
-        String code = createVerificationCode();
+        String code = verificationCodeGenerator.generate();
         String redisKey = VERIFICATION_CODE_PREFIX + email;
         redisService.setDataWithExpiration(redisKey, code, VERIFICATION_CODE_TTL);
         return code;
     }
 
-    private String createVerificationCode() {
-        SecureRandom secureRandom = new SecureRandom();
-        int code = 100000 + secureRandom.nextInt(900000);
-        return String.valueOf(code);
-    }
-
     public void verifyCode(String email, String codeToVerify) {
-        String redisKey = VERIFICATION_CODE_PREFIX + email;
-        String storedCode = redisService.getData(redisKey);
-
-        if (storedCode == null || !codeToVerify.equals(storedCode)) {
+        CompareAndDeleteResult result = redisService.compareAndDelete(
+                VERIFICATION_CODE_PREFIX + email,
+                codeToVerify,
+                VERIFICATION_ATTEMPTS_PREFIX + email,
+                maxAttempts,
+                Duration.ofMillis(lockoutMs)
+        );
+
+        if (result == CompareAndDeleteResult.LOCKED) {
+            log.warn("인증 시도 횟수 초과로 잠긴 이메일의 인증 요청입니다. [사용자: {}]", email);
+            throw new AuthException(AuthErrorCode.VERIFICATION_ATTEMPTS_EXCEEDED);
+        }
+        if (result != CompareAndDeleteResult.MATCHED) {
             throw new AuthException(AuthErrorCode.INVALID_VERIFICATION_CODE);
         }
-
-        redisService.deleteData(redisKey);
     }
 }
@@ -0,0 +1,10 @@
+package com.terning.farewell_server.auth.dto.response;
+
+import com.terning.farewell_server.mail.domain.MailDeliveryStatus;
+
+public record VerificationDeliveryResponse(String status) {
+
+    public static VerificationDeliveryResponse from(MailDeliveryStatus status) {
+        return new VerificationDeliveryResponse(status.name());
+    }
+}
@@ -0,0 +1,4 @@
+package com.terning.farewell_server.auth.dto.response;
+
+public record VerificationRequestResponse(String requestId) {
+}
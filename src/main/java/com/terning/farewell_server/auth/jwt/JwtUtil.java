@@ -1,9 +1,13 @@
 package com.terning.farewell_server.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.terning.farewell_server.auth.exception.AuthErrorCode;
 import com.terning.farewell_server.auth.exception.AuthException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -21,8 +25,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -38,11 +45,22 @@ public class JwtUtil {
     @Value("${jwt.expiration.ms}")
     private long expirationTime;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private Cache<String, AuthenticatedPrincipal> authenticatedPrincipals;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        this.authenticatedPrincipals = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.creating((String token, AuthenticatedPrincipal authenticated) ->
+                        authenticated.remainingLifetime()))
+                .build();
     }
 
     public String generateTemporaryToken(String email) {
@@ -70,14 +88,29 @@ public class JwtUtil {
 
     public Authentication getAuthentication(String accessToken) {
         Claims claims = parseClaims(accessToken);
-        UserDetails principal = new User(claims.getSubject(), "", Collections.emptyList());
-        return new UsernamePasswordAuthenticationToken(principal, "", Collections.emptyList());
+        return toAuthentication(new User(claims.getSubject(), "", Collections.emptyList()));
+    }
+
+    public Optional<Authentication> authenticate(String token) {
+        AuthenticatedPrincipal cached = authenticatedPrincipals.getIfPresent(token);
+        if (cached != null) {
+            return Optional.of(toAuthentication(cached.principal()));
+        }
+
+        return verify(token).map(claims -> {
+            UserDetails principal = new User(claims.getSubject(), "", Collections.emptyList());
+            authenticatedPrincipals.put(token, new AuthenticatedPrincipal(principal, claims.getExpiration().toInstant()));
+            return toAuthentication(principal);
+        });
     }
 
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    private Optional<Claims> verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody());
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("유효하지 않은 JWT 서명입니다.", e);
         } catch (ExpiredJwtException e) {
@@ -87,18 +120,26 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 잘못되었습니다.", e);
         }
-        return false;
+        return Optional.empty();
     }
 
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new AuthException(AuthErrorCode.EXPIRED_JWT_TOKEN);
         }
     }
+
+    private Authentication toAuthentication(UserDetails principal) {
+        return new UsernamePasswordAuthenticationToken(principal, "", Collections.emptyList());
+    }
+
+    private record AuthenticatedPrincipal(UserDetails principal, Instant expiresAt) {
+
+        private Duration remainingLifetime() {
+            Duration remaining = Duration.between(Instant.now(), expiresAt);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+    }
 }
@@ -1,9 +1,11 @@
 package com.terning.farewell_server.auth.jwt;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -25,6 +27,9 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -44,6 +49,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/",
                                 "/index.html",
@@ -52,9 +58,14 @@ public class SecurityConfig {
                                 "/js/**",
                                 "/images/**",
                                 "/api/auth/**",
-                                "/actuator/**",
+                                "/actuator/health/**",
+                                "/actuator/info",
+                                "/livez",
+                                "/readyz",
                                 "/api/admin/**"
                         ).permitAll()
+                        .requestMatchers("/actuator/prometheus").access((authentication, context) ->
+                                new AuthorizationDecision(isManagementPort(context.getRequest().getLocalPort())))
                         .requestMatchers("/api/event/**").authenticated()
                         .anyRequest().authenticated()
                 )
@@ -65,4 +76,8 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    private boolean isManagementPort(int localPort) {
+        return managementPort > 0 && localPort == managementPort;
+    }
 }
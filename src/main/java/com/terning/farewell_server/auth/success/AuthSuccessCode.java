@@ -0,0 +1,22 @@
+package com.terning.farewell_server.auth.success;
+
+import com.terning.farewell_server.global.success.SuccessCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuthSuccessCode implements SuccessCode {
+    VERIFICATION_CODE_QUEUED(HttpStatus.ACCEPTED, "인증 코드 발송 요청이 접수되었습니다. 잠시 후 메일함을 확인해주세요."),
+    GET_VERIFICATION_DELIVERY_STATUS_SUCCESS(HttpStatus.OK, "인증 코드 발송 상태 조회를 성공했습니다.");
+
+
+    private final HttpStatus status;
+    private final String rawMessage;
+
+    @Override
+    public String getMessage() {
+        return this.rawMessage;
+    }
+}
@@ -5,6 +5,7 @@ import com.terning.farewell_server.event.dto.response.StatusResponse;
 import com.terning.farewell_server.event.success.EventSuccessCode;
 import com.terning.farewell_server.global.success.SuccessResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,6 +23,9 @@ public class EventController {
 
     private final EventService eventService;
 
+    @Value("${event.result.await-timeout-ms:30000}")
+    private long awaitTimeoutMs;
+
     @PostMapping("/apply")
     public ResponseEntity<SuccessResponse<Void>> applyForGift(@AuthenticationPrincipal UserDetails userDetails) {
         String email = userDetails.getUsername();
@@ -37,4 +42,19 @@ public class EventController {
         StatusResponse statusResponse = eventService.getApplicationStatus(email);
         return ResponseEntity.ok(SuccessResponse.of(EventSuccessCode.GET_EVENT_STATUS_SUCCESS, statusResponse));
     }
+
+    @GetMapping("/status/await")
+    public DeferredResult<ResponseEntity<SuccessResponse<StatusResponse>>> awaitApplicationResult(@AuthenticationPrincipal UserDetails userDetails) {
+        String email = userDetails.getUsername();
+        DeferredResult<ResponseEntity<SuccessResponse<StatusResponse>>> deferredResult = new DeferredResult<>(
+                awaitTimeoutMs,
+                new ResponseEntity<>(SuccessResponse.from(EventSuccessCode.APPLICATION_RESULT_PENDING), HttpStatus.ACCEPTED)
+        );
+
+        Runnable unsubscribe = eventService.awaitApplicationResult(email, statusResponse -> deferredResult.setResult(
+                ResponseEntity.ok(SuccessResponse.of(EventSuccessCode.GET_EVENT_STATUS_SUCCESS, statusResponse))
+        ));
+        deferredResult.onCompletion(unsubscribe);
+        return deferredResult;
+    }
 }
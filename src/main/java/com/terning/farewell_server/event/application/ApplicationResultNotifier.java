@@ -0,0 +1,103 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationResultNotifier implements MessageListener {
+
+    private static final String DELIMITER = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Map<String, Set<Consumer<ApplicationStatus>>> waitersByEmail = new ConcurrentHashMap<>();
+
+    @Value("${event.result.channel}")
+    private String resultChannel;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(resultChannel));
+    }
+
+    public Runnable subscribe(String email, Consumer<ApplicationStatus> waiter) {
+        waitersByEmail.computeIfAbsent(email, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        return () -> waitersByEmail.computeIfPresent(email, (key, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    public int getWaitingCount() {
+        return waitersByEmail.size();
+    }
+
+    public void publish(String email, ApplicationStatus status) {
+        try {
+            redisTemplate.convertAndSend(resultChannel, toMessage(email, status));
+        } catch (Exception e) {
+            log.warn("신청 결과 전파 실패. 대기 중인 요청은 시간 초과 후 재조회합니다. [사용자: {}]", email, e);
+        }
+    }
+
+    public void publishAll(Collection<ApplicationOutcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                outcomes.forEach(outcome -> stringConnection.publish(resultChannel, toMessage(outcome.email(), outcome.status())));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("신청 결과 일괄 전파 실패. 대기 중인 요청은 시간 초과 후 재조회합니다. [{}건]", outcomes.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiterIndex = body.indexOf(DELIMITER);
+        if (delimiterIndex < 0) {
+            log.warn("잘못된 신청 결과 메시지를 무시합니다: {}", body);
+            return;
+        }
+
+        String email = body.substring(delimiterIndex + 1);
+        Set<Consumer<ApplicationStatus>> waiters = waitersByEmail.remove(email);
+        if (waiters == null) {
+            return;
+        }
+
+        ApplicationStatus status = ApplicationStatus.valueOf(body.substring(0, delimiterIndex));
+        waiters.forEach(waiter -> waiter.accept(status));
+    }
+
+    private String toMessage(String email, ApplicationStatus status) {
+        return status.name() + DELIMITER + email;
+    }
+}
@@ -0,0 +1,171 @@
+package com.terning.farewell_server.event.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.global.common.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationStatusCache {
+
+    private static final long EXPIRY_REFRESH_INTERVAL_MS = 60_000L;
+
+    private static final String PUT_IF_ABSENT_LUA_SCRIPT =
+            "local stored = redis.call('hsetnx', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "if redis.call('pttl', KEYS[1]) < 0 then " +
+                    "  redis.call('pexpire', KEYS[1], ARGV[3]) " +
+                    "end " +
+                    "return stored";
+
+    private static final String PUT_ALL_LUA_SCRIPT =
+            "for i = 2, #ARGV, 2 do " +
+                    "  redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+                    "end " +
+                    "if redis.call('pttl', KEYS[1]) < 0 then " +
+                    "  redis.call('pexpire', KEYS[1], ARGV[1]) " +
+                    "end " +
+                    "return (#ARGV - 1) / 2";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SoldOutGate soldOutGate;
+    private final RedisScriptRegistry redisScriptRegistry;
+
+    private Cache<String, ApplicationStatus> resolvedStatuses;
+    private Cache<String, Boolean> pendingEmails;
+    private volatile long expiryRefreshedAt;
+    private RedisScript<Long> putIfAbsentScript;
+    private RedisScript<Long> putAllScript;
+
+    @Value("${event.status-cache.key:event:application:status}")
+    private String statusKey;
+
+    @Value("${event.status-cache.local-max-size:100000}")
+    private long localMaxSize;
+
+    @Value("${event.status-cache.pending-ttl-ms:1000}")
+    private long pendingTtlMs;
+
+    @Value("${event.status-cache.ttl-ms:604800000}")
+    private long ttlMs;
+
+    @PostConstruct
+    public void init() {
+        resolvedStatuses = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .build();
+        pendingEmails = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMillis(pendingTtlMs))
+                .build();
+        putIfAbsentScript = redisScriptRegistry.register("status-put-if-absent", PUT_IF_ABSENT_LUA_SCRIPT, Long.class);
+        putAllScript = redisScriptRegistry.register("status-put-all", PUT_ALL_LUA_SCRIPT, Long.class);
+        soldOutGate.addStateChangeListener(this::invalidateLocal);
+    }
+
+    public Optional<ApplicationStatus> get(String email) {
+        ApplicationStatus localStatus = resolvedStatuses.getIfPresent(email);
+        if (localStatus != null) {
+            return Optional.of(localStatus);
+        }
+
+        try {
+            Object cachedStatus = redisTemplate.opsForHash().get(statusKey, email);
+            if (cachedStatus == null) {
+                return Optional.empty();
+            }
+            ApplicationStatus status = ApplicationStatus.valueOf(cachedStatus.toString());
+            resolveLocally(email, status);
+            return Optional.of(status);
+        } catch (Exception e) {
+            log.warn("신청 상태 캐시 조회 실패. DB에서 조회합니다. [사용자: {}]", email, e);
+            return Optional.empty();
+        }
+    }
+
+    public boolean isPending(String email) {
+        return pendingEmails.getIfPresent(email) != null;
+    }
+
+    public void markPending(String email) {
+        pendingEmails.put(email, Boolean.TRUE);
+    }
+
+    public void put(String email, ApplicationStatus status) {
+        try {
+            Long stored = redisScriptRegistry.execute(
+                    putIfAbsentScript,
+                    List.of(statusKey),
+                    email,
+                    status.name(),
+                    String.valueOf(ttlMs)
+            );
+            if (stored != null && stored == 1L) {
+                resolveLocally(email, status);
+            }
+            refreshExpiry();
+        } catch (Exception e) {
+            log.warn("신청 상태 캐시 저장 실패. [사용자: {}]", email, e);
+        }
+    }
+
+    public void putAll(Collection<ApplicationOutcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(outcomes.size() * 2 + 1);
+        args.add(String.valueOf(ttlMs));
+        outcomes.forEach(outcome -> {
+            args.add(outcome.email());
+            args.add(outcome.status().name());
+        });
+        try {
+            redisScriptRegistry.execute(putAllScript, List.of(statusKey), args.toArray());
+            refreshExpiry();
+            outcomes.forEach(outcome -> resolveLocally(outcome.email(), outcome.status()));
+        } catch (Exception e) {
+            log.warn("신청 상태 캐시 일괄 저장 실패. ({}건)", outcomes.size(), e);
+        }
+    }
+
+    public void clear() {
+        redisTemplate.delete(statusKey);
+        expiryRefreshedAt = 0L;
+        invalidateLocal();
+    }
+
+    private void refreshExpiry() {
+        long now = System.currentTimeMillis();
+        if (now - expiryRefreshedAt < EXPIRY_REFRESH_INTERVAL_MS) {
+            return;
+        }
+        expiryRefreshedAt = now;
+        redisTemplate.expire(statusKey, Duration.ofMillis(ttlMs));
+    }
+
+    private void invalidateLocal() {
+        resolvedStatuses.invalidateAll();
+        pendingEmails.invalidateAll();
+    }
+
+    private void resolveLocally(String email, ApplicationStatus status) {
+        resolvedStatuses.put(email, status);
+        pendingEmails.invalidate(email);
+    }
+}
@@ -0,0 +1,89 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationWriteBehindBuffer {
+
+    private final ApplicationService applicationService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ApplicationStatus> pendingOutcomes = new ConcurrentHashMap<>();
+
+    @Value("${event.write-behind.batch-size:1000}")
+    private int batchSize;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("event.write-behind.pending", pendingOutcomes, Map::size)
+                .description("DB 저장을 기다리는 신청 결과 수")
+                .register(meterRegistry);
+    }
+
+    public void add(ApplicationOutcome outcome) {
+        pendingOutcomes.putIfAbsent(outcome.email(), outcome.status());
+    }
+
+    public void addAll(Collection<ApplicationOutcome> outcomes) {
+        outcomes.forEach(this::add);
+    }
+
+    public boolean contains(String email) {
+        return pendingOutcomes.containsKey(email);
+    }
+
+    public int size() {
+        return pendingOutcomes.size();
+    }
+
+    @Scheduled(fixedDelayString = "${event.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        while (!pendingOutcomes.isEmpty()) {
+            List<ApplicationOutcome> outcomes = drain();
+            try {
+                applicationService.saveApplications(outcomes);
+                log.debug("신청 결과 {}건을 DB에 일괄 저장했습니다.", outcomes.size());
+            } catch (Exception e) {
+                log.error("신청 결과 일괄 저장 실패. 다음 주기에 재시도합니다. ({}건)", outcomes.size(), e);
+                addAll(outcomes);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<ApplicationOutcome> drain() {
+        List<ApplicationOutcome> outcomes = new ArrayList<>(batchSize);
+        Iterator<Map.Entry<String, ApplicationStatus>> iterator = pendingOutcomes.entrySet().iterator();
+        while (iterator.hasNext() && outcomes.size() < batchSize) {
+            Map.Entry<String, ApplicationStatus> entry = iterator.next();
+            iterator.remove();
+            outcomes.add(ApplicationOutcome.of(entry.getKey(), entry.getValue()));
+        }
+        return outcomes;
+    }
+}
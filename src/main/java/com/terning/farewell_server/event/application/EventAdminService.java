@@ -13,6 +13,10 @@ import org.springframework.stereotype.Service;
 public class EventAdminService {
 
     private final StringRedisTemplate redisTemplate;
+    private final SoldOutGate soldOutGate;
+    private final GiftStockManager giftStockManager;
+    private final ApplicationStatusCache applicationStatusCache;
+    private final EventService eventService;
 
     @Value("${event.gift-stock-key}")
     private String giftStockKey;
@@ -20,6 +24,14 @@ public class EventAdminService {
     public int setEventStock(SetStockRequest request) {
         int count = request.count();
         redisTemplate.opsForValue().set(giftStockKey, String.valueOf(count));
+        giftStockManager.resetReservations();
+        applicationStatusCache.clear();
+        eventService.clearAppliedMarkers();
+        if (count > 0) {
+            soldOutGate.reopen();
+        } else {
+            soldOutGate.broadcastSoldOut();
+        }
         log.info("이벤트 재고가 관리자에 의해 설정되었습니다. 총 재고: {}개", count);
         return count;
     }
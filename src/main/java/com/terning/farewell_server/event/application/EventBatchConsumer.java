@@ -0,0 +1,107 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.global.common.RedisService;
+import datadog.trace.api.Trace;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.consumer.batch.enabled", havingValue = "true")
+public class EventBatchConsumer {
+
+    private final ApplicationService applicationService;
+    private final GiftStockManager giftStockManager;
+    private final PartitionDeduplicator partitionDeduplicator;
+    private final ApplicationStatusCache applicationStatusCache;
+    private final ApplicationResultNotifier applicationResultNotifier;
+    private final ApplicationWriteBehindBuffer applicationWriteBehindBuffer;
+    private final RedisService redisService;
+
+    @Value("${event.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
+
+    @Value("${event.applied-marker.key-prefix:event:applied:}")
+    private String appliedMarkerPrefix;
+
+    @Value("${event.applied-marker.ttl-ms:86400000}")
+    private long appliedMarkerTtlMs;
+
+    @Trace(operationName = "kafka.consume", resourceName = "EventBatchConsumer.handleApplications")
+    @KafkaListener(
+            topics = "${event.kafka-topic}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = "max.poll.records=${event.consumer.batch.max-poll-records:500}"
+    )
+    public void handleApplications(List<ConsumerRecord<String, String>> records) {
+        Map<String, TopicPartition> partitionByEmail = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+            if (!partitionDeduplicator.isDuplicate(topicPartition, record.value())) {
+                partitionByEmail.putIfAbsent(record.value(), topicPartition);
+            }
+        }
+        List<String> distinctEmails = new ArrayList<>(partitionByEmail.keySet());
+        log.info("Kafka 배치 메시지 수신: {}건 (중복 제외 {}건)", records.size(), distinctEmails.size());
+
+        if (distinctEmails.isEmpty()) {
+            return;
+        }
+
+        Map<String, ApplicationStatus> reservations = giftStockManager.reserve(distinctEmails);
+
+        List<ApplicationOutcome> outcomes = reservations.entrySet().stream()
+                .map(entry -> ApplicationOutcome.of(entry.getKey(), entry.getValue()))
+                .toList();
+
+        List<ApplicationOutcome> savedOutcomes;
+        try {
+            savedOutcomes = saveApplications(outcomes);
+        } catch (Exception e) {
+            log.error("Kafka 배치 메시지 처리 중 비즈니스 로직 오류 발생: {}건", outcomes.size(), e);
+            throw new RuntimeException("Kafka batch processing failed for " + outcomes.size() + " messages", e);
+        }
+
+        applicationStatusCache.putAll(savedOutcomes);
+        applicationResultNotifier.publishAll(savedOutcomes);
+        rearmAppliedMarkers(distinctEmails);
+        outcomes.forEach(outcome -> partitionDeduplicator.markProcessed(partitionByEmail.get(outcome.email()), outcome.email()));
+
+        long successCount = savedOutcomes.stream().filter(ApplicationOutcome::isSuccess).count();
+        log.info("배치 처리 완료. [선착순 통과: {}건, 마감: {}건]", successCount, savedOutcomes.size() - successCount);
+    }
+
+    private void rearmAppliedMarkers(List<String> emails) {
+        Map<String, String> appliedMarkers = new LinkedHashMap<>();
+        emails.forEach(email -> appliedMarkers.put(appliedMarkerPrefix + email, EventService.APPLIED_MARKER_VALUE));
+        try {
+            redisService.setAllWithExpiration(appliedMarkers, Duration.ofMillis(appliedMarkerTtlMs));
+        } catch (Exception e) {
+            log.warn("신청 접수 표시 일괄 갱신 실패. ({}건)", emails.size(), e);
+        }
+    }
+
+    private List<ApplicationOutcome> saveApplications(List<ApplicationOutcome> outcomes) {
+        if (writeBehindEnabled) {
+            applicationWriteBehindBuffer.addAll(outcomes);
+            return outcomes;
+        }
+        return applicationService.saveApplications(outcomes);
+    }
+}
@@ -1,17 +1,16 @@
 package com.terning.farewell_server.event.application;
 
 import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
 import com.terning.farewell_server.application.domain.ApplicationStatus;
 import com.terning.farewell_server.event.exception.EventErrorCode;
 import com.terning.farewell_server.event.exception.EventException;
-import com.terning.farewell_server.mail.application.EmailService;
 import datadog.trace.api.Trace;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
-import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
@@ -21,31 +20,21 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.consumer.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class EventConsumer {
 
     private final ApplicationService applicationService;
-    private final EmailService emailService;
-    private final StringRedisTemplate redisTemplate;
-
-    @Value("${event.gift-stock-key}")
-    private String giftStockKey;
-
-    private static final String DECREMENT_STOCK_LUA_SCRIPT =
-            "local stock = redis.call('decr', KEYS[1]) " +
-                    "if tonumber(stock) < 0 then " +
-                    "  redis.call('incr', KEYS[1]) " +
-                    "  return -1 " +
-                    "end " +
-                    "return stock";
-
-    private static final RedisScript<Long> DECREMENT_STOCK_SCRIPT =
-            new DefaultRedisScript<>(DECREMENT_STOCK_LUA_SCRIPT, Long.class);
+    private final GiftStockManager giftStockManager;
+    private final PartitionDeduplicator partitionDeduplicator;
+    private final ApplicationStatusCache applicationStatusCache;
+    private final ApplicationResultNotifier applicationResultNotifier;
+    private final ApplicationWriteBehindBuffer applicationWriteBehindBuffer;
 
+    @Value("${event.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
 
     @Trace(operationName = "kafka.consume", resourceName = "EventConsumer.handleApplication")
     @RetryableTopic(
@@ -54,10 +43,18 @@ public class EventConsumer {
             dltStrategy = DltStrategy.FAIL_ON_ERROR
     )
     @KafkaListener(topics = "${event.kafka-topic}")
-    public void handleApplication(String email, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        log.info("Kafka 메시지 수신 [Topic: {}]: Email={}", topic, email);
+    public void handleApplication(String email,
+                                  @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                  @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) {
+        log.info("Kafka 메시지 수신 [Topic: {}, Partition: {}]: Email={}", topic, partition, email);
+
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        if (partitionDeduplicator.isDuplicate(topicPartition, email)) {
+            log.info("이미 처리된 신청 메시지입니다. (파티션 내 중복) [사용자: {}]", email);
+            return;
+        }
 
-        Long remainingStock = redisTemplate.execute(DECREMENT_STOCK_SCRIPT, Collections.singletonList(giftStockKey));
+        Long remainingStock = giftStockManager.decrease(email);
 
         if (remainingStock == null) {
             log.error("Redis로부터 재고 정보를 가져올 수 없습니다. 재시도를 위해 예외를 발생시킵니다. [사용자: {}]", email);
@@ -67,13 +64,18 @@ public class EventConsumer {
         try {
             if (remainingStock < 0) {
                 log.info("선착순 마감. [사용자: {}]", email);
-                applicationService.saveApplication(email, ApplicationStatus.FAILURE);
+                saveApplication(email, ApplicationStatus.FAILURE);
+                applicationStatusCache.put(email, ApplicationStatus.FAILURE);
+                applicationResultNotifier.publish(email, ApplicationStatus.FAILURE);
+                partitionDeduplicator.markProcessed(topicPartition, email);
                 return;
             }
 
             log.info("선착순 통과! [사용자: {}, 남은 재고: {}]", email, remainingStock);
-            applicationService.saveApplication(email, ApplicationStatus.SUCCESS);
-            emailService.sendConfirmationEmail(email);
+            saveApplication(email, ApplicationStatus.SUCCESS);
+            applicationStatusCache.put(email, ApplicationStatus.SUCCESS);
+            applicationResultNotifier.publish(email, ApplicationStatus.SUCCESS);
+            partitionDeduplicator.markProcessed(topicPartition, email);
 
         } catch (Exception e) {
             log.error("Kafka 메시지 처리 중 비즈니스 로직 오류 발생: {}", email, e);
@@ -81,6 +83,14 @@ public class EventConsumer {
         }
     }
 
+    private void saveApplication(String email, ApplicationStatus status) {
+        if (writeBehindEnabled) {
+            applicationWriteBehindBuffer.add(ApplicationOutcome.of(email, status));
+            return;
+        }
+        applicationService.saveApplication(email, status);
+    }
+
     @DltHandler
     public void handleDlt(String message, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
         log.error("[DLT] 최종 처리 실패 [Topic: {}]: {}", topic, message);
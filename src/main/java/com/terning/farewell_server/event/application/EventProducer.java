@@ -0,0 +1,100 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.event.exception.EventErrorCode;
+import com.terning.farewell_server.event.exception.EventException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventProducer {
+
+    private static final String SEND_METRIC = "event.kafka.send";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Value("${event.kafka-topic}")
+    private String kafkaTopic;
+
+    @Value("${event.kafka.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    private Timer successTimer;
+    private Timer failureTimer;
+    private Counter failureCounter;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder(SEND_METRIC + ".in-flight", inFlight, AtomicInteger::get)
+                .description("브로커 ack를 기다리는 Kafka 발행 건수")
+                .register(meterRegistry);
+        successTimer = Timer.builder(SEND_METRIC)
+                .tag("result", "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        failureTimer = Timer.builder(SEND_METRIC)
+                .tag("result", "failure")
+                .register(meterRegistry);
+        failureCounter = Counter.builder(SEND_METRIC + ".failures")
+                .register(meterRegistry);
+    }
+
+    public void send(String email) {
+        long startedAt = System.nanoTime();
+        inFlight.incrementAndGet();
+
+        CompletableFuture<SendResult<String, String>> future;
+        try {
+            future = kafkaTemplate.send(kafkaTopic, email, email)
+                    .whenComplete((result, ex) -> complete(startedAt, ex));
+        } catch (Exception e) {
+            complete(startedAt, e);
+            log.error("Kafka 메시지 발행 요청 실패: {}", email, e);
+            throw new EventException(EventErrorCode.EVENT_PUBLISH_FAILED);
+        }
+
+        try {
+            future.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventException(EventErrorCode.EVENT_PUBLISH_FAILED);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Kafka 브로커 ack 수신 실패: {}", email, e);
+            throw new EventException(EventErrorCode.EVENT_PUBLISH_FAILED);
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void complete(long startedAt, Throwable ex) {
+        inFlight.decrementAndGet();
+        long elapsed = System.nanoTime() - startedAt;
+        if (ex == null) {
+            successTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            return;
+        }
+        failureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        failureCounter.increment();
+    }
+}
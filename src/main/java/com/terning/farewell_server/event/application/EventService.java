@@ -2,36 +2,124 @@ package com.terning.farewell_server.event.application;
 
 import com.terning.farewell_server.application.domain.Application;
 import com.terning.farewell_server.application.domain.ApplicationRepository;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
 import com.terning.farewell_server.event.dto.response.StatusResponse;
 import com.terning.farewell_server.event.exception.EventErrorCode;
 import com.terning.farewell_server.event.exception.EventException;
+import com.terning.farewell_server.global.common.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final EventProducer eventProducer;
     private final ApplicationRepository applicationRepository;
+    private final SoldOutGate soldOutGate;
+    private final SoldOutApplicationBuffer soldOutApplicationBuffer;
+    private final ApplicationStatusCache applicationStatusCache;
+    private final ApplicationResultNotifier applicationResultNotifier;
+    private final RedisService redisService;
+
+    static final String APPLIED_MARKER_VALUE = "1";
+    private static final int APPLIED_MARKER_CLEAR_BATCH_SIZE = 1000;
+
+    @Value("${event.applied-marker.key-prefix:event:applied:}")
+    private String appliedMarkerPrefix;
 
-    @Value("${event.kafka-topic}")
-    private String kafkaTopic;
+    @Value("${event.applied-marker.ttl-ms:86400000}")
+    private long appliedMarkerTtlMs;
 
     public void applyForGift(String email) {
+        if (soldOutGate.isSoldOut()) {
+            if (isApplied(email)) {
+                log.info("마감 전에 접수된 신청입니다. 마감 기록을 남기지 않습니다. [사용자: {}]", email);
+                return;
+            }
+            soldOutApplicationBuffer.add(email);
+            throw new EventException(EventErrorCode.EVENT_CLOSED);
+        }
+
+        if (!markApplied(email)) {
+            log.info("이미 접수된 신청입니다. Kafka 발행을 생략합니다. [사용자: {}]", email);
+            return;
+        }
+
         log.info("이벤트 신청 접수. Kafka 토픽으로 메시지 발행: {}", email);
-        kafkaTemplate.send(kafkaTopic, email);
+        try {
+            eventProducer.send(email);
+        } catch (RuntimeException e) {
+            unmarkApplied(email);
+            throw e;
+        }
+    }
+
+    public void clearAppliedMarkers() {
+        long cleared = redisService.deleteByPrefix(appliedMarkerPrefix, APPLIED_MARKER_CLEAR_BATCH_SIZE);
+        log.info("신청 접수 표시 {}건을 삭제했습니다.", cleared);
     }
 
-    @Transactional(readOnly = true)
     public StatusResponse getApplicationStatus(String email) {
-        Application application = applicationRepository.findByEmail(email)
+        return findApplicationStatus(email)
+                .map(StatusResponse::from)
                 .orElseThrow(() -> new EventException(EventErrorCode.APPLICATION_NOT_FOUND));
-        return StatusResponse.from(application);
+    }
+
+    public Runnable awaitApplicationResult(String email, Consumer<StatusResponse> onResult) {
+        Runnable unsubscribe = applicationResultNotifier.subscribe(email, status -> onResult.accept(StatusResponse.from(status)));
+        findApplicationStatus(email).ifPresent(status -> {
+            unsubscribe.run();
+            onResult.accept(StatusResponse.from(status));
+        });
+        return unsubscribe;
+    }
+
+    private Optional<ApplicationStatus> findApplicationStatus(String email) {
+        Optional<ApplicationStatus> cachedStatus = applicationStatusCache.get(email);
+        if (cachedStatus.isPresent() || applicationStatusCache.isPending(email)) {
+            return cachedStatus;
+        }
+
+        Optional<ApplicationStatus> storedStatus = applicationRepository.findByEmail(email)
+                .map(Application::getStatus);
+        storedStatus.ifPresentOrElse(
+                status -> applicationStatusCache.put(email, status),
+                () -> applicationStatusCache.markPending(email)
+        );
+        return storedStatus;
+    }
+
+    private boolean isApplied(String email) {
+        try {
+            return redisService.getData(appliedMarkerPrefix + email) != null;
+        } catch (Exception e) {
+            log.warn("신청 접수 표시 조회 실패. 마감으로 처리합니다. [사용자: {}]", email, e);
+            return false;
+        }
+    }
+
+    private boolean markApplied(String email) {
+        try {
+            return redisService.setDataIfAbsent(appliedMarkerPrefix + email, APPLIED_MARKER_VALUE, Duration.ofMillis(appliedMarkerTtlMs));
+        } catch (Exception e) {
+            log.warn("신청 접수 표시 실패. 중복 여부를 확인하지 않고 발행합니다. [사용자: {}]", email, e);
+            return true;
+        }
+    }
+
+    private void unmarkApplied(String email) {
+        try {
+            redisService.deleteData(appliedMarkerPrefix + email);
+        } catch (Exception e) {
+            log.warn("신청 접수 표시 해제 실패. [사용자: {}]", email, e);
+        }
     }
 }
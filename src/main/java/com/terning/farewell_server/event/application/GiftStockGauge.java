@@ -0,0 +1,39 @@
+package com.terning.farewell_server.event.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GiftStockGauge {
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${event.gift-stock-key}")
+    private String giftStockKey;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("event.stock.remaining", this, GiftStockGauge::readRemainingStock)
+                .description("Redis 중앙 재고 (노드가 임대 중인 토큰 제외)")
+                .register(meterRegistry);
+    }
+
+    double readRemainingStock() {
+        try {
+            String stock = redisTemplate.opsForValue().get(giftStockKey);
+            return stock == null ? Double.NaN : Long.parseLong(stock);
+        } catch (Exception e) {
+            log.debug("재고 게이지 조회 실패", e);
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.event.exception.EventErrorCode;
+import com.terning.farewell_server.event.exception.EventException;
+import com.terning.farewell_server.global.common.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GiftStockManager {
+
+    private final StringRedisTemplate redisTemplate;
+    private final SoldOutGate soldOutGate;
+    private final RedisScriptRegistry redisScriptRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong localTokens = new AtomicLong();
+    private volatile long reportedTokens;
+    private final ReentrantLock leaseLock = new ReentrantLock();
+    private volatile long lastTakenAt = System.currentTimeMillis();
+
+    @Value("${event.gift-stock-key}")
+    private String giftStockKey;
+
+    @Value("${event.stock.lease.enabled:false}")
+    private boolean leaseEnabled;
+
+    @Value("${event.stock.lease.size:50}")
+    private int leaseSize;
+
+    @Value("${event.stock.lease.idle-return-ms:2000}")
+    private long idleReturnMs;
+
+    @Value("${event.stock.lease.ttl-ms:30000}")
+    private long leaseTtlMs;
+
+    @Value("${event.stock.lease.unreported-max:10}")
+    private int unreportedMax;
+
+    private static final String DECREMENT_STOCK_LUA_SCRIPT =
+            "if redis.call('zscore', KEYS[2], ARGV[1]) then " +
+                    "  return tonumber(redis.call('get', KEYS[1]) or '0') " +
+                    "end " +
+                    "local stock = redis.call('decr', KEYS[1]) " +
+                    "if tonumber(stock) < 0 then " +
+                    "  redis.call('incr', KEYS[1]) " +
+                    "  return -1 " +
+                    "end " +
+                    "local time = redis.call('time') " +
+                    "redis.call('zadd', KEYS[2], tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000), ARGV[1]) " +
+                    "return stock";
+
+    private static final String RESERVE_STOCK_LUA_SCRIPT =
+            "local stock = tonumber(redis.call('get', KEYS[1]) or '0') " +
+                    "local time = redis.call('time') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "local results = {} " +
+                    "local granted = 0 " +
+                    "for i = 1, #ARGV do " +
+                    "  if redis.call('zscore', KEYS[2], ARGV[i]) then " +
+                    "    results[i] = 1 " +
+                    "  elseif granted < stock then " +
+                    "    granted = granted + 1 " +
+                    "    redis.call('zadd', KEYS[2], now, ARGV[i]) " +
+                    "    results[i] = 1 " +
+                    "  else " +
+                    "    results[i] = 0 " +
+                    "  end " +
+                    "end " +
+                    "if granted > 0 then " +
+                    "  redis.call('decrby', KEYS[1], granted) " +
+                    "end " +
+                    "results[#ARGV + 1] = stock - granted " +
+                    "return results";
+
+    private static final String LEASE_STOCK_LUA_SCRIPT =
+            "local time = redis.call('time') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "for _, node in ipairs(redis.call('zrangebyscore', KEYS[3], '-inf', now)) do " +
+                    "  local held = tonumber(redis.call('hget', KEYS[2], node) or '0') " +
+                    "  if held > 0 then " +
+                    "    redis.call('incrby', KEYS[1], held) " +
+                    "  end " +
+                    "  redis.call('hdel', KEYS[2], node) " +
+                    "  redis.call('zrem', KEYS[3], node) " +
+                    "end " +
+                    "local stock = tonumber(redis.call('get', KEYS[1]) or '0') " +
+                    "local granted = math.min(math.max(stock, 0), tonumber(ARGV[2])) " +
+                    "if granted > 0 then " +
+                    "  local reported = math.max(granted - tonumber(ARGV[4]), 0) " +
+                    "  redis.call('decrby', KEYS[1], granted) " +
+                    "  redis.call('hset', KEYS[2], ARGV[1], reported) " +
+                    "  redis.call('zadd', KEYS[3], now + tonumber(ARGV[3]), ARGV[1]) " +
+                    "  return {granted, reported, redis.call('hlen', KEYS[2])} " +
+                    "end " +
+                    "redis.call('hdel', KEYS[2], ARGV[1]) " +
+                    "redis.call('zrem', KEYS[3], ARGV[1]) " +
+                    "return {0, 0, redis.call('hlen', KEYS[2])}";
+
+    private static final String RENEW_LEASE_LUA_SCRIPT =
+            "if not redis.call('zscore', KEYS[2], ARGV[1]) then " +
+                    "  return 0 " +
+                    "end " +
+                    "local time = redis.call('time') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('zadd', KEYS[2], now + tonumber(ARGV[3]), ARGV[1]) " +
+                    "return 1";
+
+    private static final String RETURN_LEASE_LUA_SCRIPT =
+            "local returned = tonumber(ARGV[2]) " +
+                    "if not redis.call('zscore', KEYS[3], ARGV[1]) then " +
+                    "  returned = returned - tonumber(ARGV[3]) " +
+                    "end " +
+                    "if returned > 0 then " +
+                    "  redis.call('incrby', KEYS[1], returned) " +
+                    "end " +
+                    "redis.call('hdel', KEYS[2], ARGV[1]) " +
+                    "redis.call('zrem', KEYS[3], ARGV[1]) " +
+                    "return returned";
+
+    private static final long RESERVED = 1L;
+    private static final long SOLD_OUT = -1L;
+    static final String LEASE_KEY_SUFFIX = ":leases";
+    static final String LEASE_DEADLINES_KEY_SUFFIX = ":lease-deadlines";
+    private static final String WINNERS_KEY_SUFFIX = ":winners";
+    private static final String ROUND_STARTED_AT_KEY_SUFFIX = ":round-started-at";
+
+    private RedisScript<Long> decrementStockScript;
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> reserveStockScript;
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> leaseStockScript;
+    private RedisScript<Long> renewLeaseScript;
+    private RedisScript<Long> returnLeaseScript;
+
+    @PostConstruct
+    public void init() {
+        decrementStockScript = redisScriptRegistry.register("stock-decrement", DECREMENT_STOCK_LUA_SCRIPT, Long.class);
+        reserveStockScript = redisScriptRegistry.register("stock-reserve", RESERVE_STOCK_LUA_SCRIPT, List.class);
+        leaseStockScript = redisScriptRegistry.register("stock-lease", LEASE_STOCK_LUA_SCRIPT, List.class);
+        renewLeaseScript = redisScriptRegistry.register("stock-renew-lease", RENEW_LEASE_LUA_SCRIPT, Long.class);
+        returnLeaseScript = redisScriptRegistry.register("stock-return-lease", RETURN_LEASE_LUA_SCRIPT, Long.class);
+        soldOutGate.addStateChangeListener(this::discardLocalTokens);
+    }
+
+    public Long decrease(String email) {
+        if (leaseEnabled) {
+            return takeFromLease(1) == 1 ? localTokens.get() : SOLD_OUT;
+        }
+
+        Long remainingStock = redisScriptRegistry.execute(decrementStockScript, List.of(giftStockKey, winnersKey()), email);
+        if (remainingStock != null && remainingStock <= 0) {
+            soldOutGate.markSoldOut();
+        }
+        return remainingStock;
+    }
+
+    public Map<String, ApplicationStatus> reserve(List<String> emails) {
+        if (emails.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        if (leaseEnabled) {
+            long granted = takeFromLease(emails.size());
+            Map<String, ApplicationStatus> outcomes = new LinkedHashMap<>();
+            for (int i = 0; i < emails.size(); i++) {
+                outcomes.put(emails.get(i), i < granted ? ApplicationStatus.SUCCESS : ApplicationStatus.FAILURE);
+            }
+            return outcomes;
+        }
+
+        List<?> results = redisScriptRegistry.execute(
+                reserveStockScript,
+                List.of(giftStockKey, winnersKey()),
+                emails.toArray()
+        );
+
+        if (results == null || results.size() != emails.size() + 1) {
+            throw new EventException(EventErrorCode.GIFT_STOCK_INFO_NOT_FOUND);
+        }
+
+        Map<String, ApplicationStatus> outcomes = new LinkedHashMap<>();
+        for (int i = 0; i < emails.size(); i++) {
+            boolean reserved = ((Number) results.get(i)).longValue() == RESERVED;
+            outcomes.put(emails.get(i), reserved ? ApplicationStatus.SUCCESS : ApplicationStatus.FAILURE);
+        }
+
+        long remainingStock = ((Number) results.get(emails.size())).longValue();
+        if (remainingStock <= 0 || outcomes.containsValue(ApplicationStatus.FAILURE)) {
+            soldOutGate.markSoldOut();
+        }
+        return outcomes;
+    }
+
+    public void resetReservations() {
+        redisTemplate.delete(List.of(leaseKey(), leaseDeadlinesKey(), winnersKey()));
+        redisTemplate.opsForValue().set(roundStartedAtKey(), String.valueOf(System.currentTimeMillis()));
+    }
+
+    public boolean isLeaseEnabled() {
+        return leaseEnabled;
+    }
+
+    public Cursor<ZSetOperations.TypedTuple<String>> scanWinners(int count) {
+        return redisTemplate.opsForZSet().scan(winnersKey(), ScanOptions.scanOptions().count(count).build());
+    }
+
+    public long countWinnersDecidedBetween(long from, long to) {
+        Long winners = redisTemplate.opsForZSet().count(winnersKey(), from, to);
+        return winners == null ? 0L : winners;
+    }
+
+    public long getRoundStartedAt() {
+        String startedAt = redisTemplate.opsForValue().get(roundStartedAtKey());
+        return startedAt == null ? 0L : Long.parseLong(startedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${event.stock.lease.idle-return-ms:2000}")
+    public void returnIdleLease() {
+        if (!leaseEnabled || localTokens.get() == 0 || System.currentTimeMillis() - lastTakenAt < idleReturnMs) {
+            return;
+        }
+        returnLease();
+    }
+
+    @Scheduled(fixedDelayString = "${event.stock.lease.heartbeat-ms:5000}")
+    public void renewLease() {
+        if (!leaseEnabled || localTokens.get() == 0) {
+            return;
+        }
+
+        leaseLock.lock();
+        try {
+            if (localTokens.get() > 0) {
+                reportLease(reportedTokens);
+            }
+        } catch (Exception e) {
+            log.warn("재고 임대 갱신 실패. [노드: {}]", nodeId, e);
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void returnLease() {
+        if (!leaseEnabled) {
+            return;
+        }
+
+        leaseLock.lock();
+        try {
+            long tokens = localTokens.getAndSet(0);
+            long reported = reportedTokens;
+            reportedTokens = 0;
+            if (tokens > 0) {
+                Long returned = redisScriptRegistry.execute(
+                        returnLeaseScript,
+                        List.of(giftStockKey, leaseKey(), leaseDeadlinesKey()),
+                        nodeId,
+                        String.valueOf(tokens),
+                        String.valueOf(reported)
+                );
+                log.info("사용하지 않은 재고 토큰 {}개를 중앙 재고로 반납했습니다. [노드: {}]", returned, nodeId);
+            }
+        } catch (Exception e) {
+            log.error("재고 토큰 반납 실패. [노드: {}]", nodeId, e);
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private long takeFromLease(long requested) {
+        long taken = takeLocal(requested);
+        while (taken < requested) {
+            if (!refillLease(requested - taken)) {
+                return taken;
+            }
+            taken += takeLocal(requested - taken);
+        }
+
+        if (localTokens.get() <= reportedTokens) {
+            refillLease(leaseSize);
+        }
+        return taken;
+    }
+
+    private long takeLocal(long requested) {
+        while (true) {
+            long current = localTokens.get();
+            long spendable = current - reportedTokens;
+            if (spendable <= 0) {
+                return 0;
+            }
+            long taken = Math.min(spendable, requested);
+            if (localTokens.compareAndSet(current, current - taken)) {
+                lastTakenAt = System.currentTimeMillis();
+                return taken;
+            }
+        }
+    }
+
+    private boolean refillLease(long needed) {
+        leaseLock.lock();
+        try {
+            if (localTokens.get() > reportedTokens) {
+                return true;
+            }
+
+            if (reportedTokens > 0) {
+                reportLease(Math.max(localTokens.get() - unreportedMax, 0));
+                return true;
+            }
+
+            List<?> result = redisScriptRegistry.execute(
+                    leaseStockScript,
+                    List.of(giftStockKey, leaseKey(), leaseDeadlinesKey()),
+                    nodeId,
+                    String.valueOf(Math.max(leaseSize, needed)),
+                    String.valueOf(leaseTtlMs),
+                    String.valueOf(unreportedMax)
+            );
+
+            if (result == null || result.size() != 3) {
+                throw new EventException(EventErrorCode.GIFT_STOCK_INFO_NOT_FOUND);
+            }
+
+            long granted = ((Number) result.get(0)).longValue();
+            long reported = ((Number) result.get(1)).longValue();
+            long activeLeases = ((Number) result.get(2)).longValue();
+
+            if (granted > 0) {
+                reportedTokens = reported;
+                localTokens.addAndGet(granted);
+                log.debug("재고 토큰 {}개를 임대했습니다. [노드: {}]", granted, nodeId);
+                return true;
+            }
+
+            if (activeLeases == 0) {
+                soldOutGate.markSoldOut();
+            }
+            return false;
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private void reportLease(long reported) {
+        Long renewed = redisScriptRegistry.execute(
+                renewLeaseScript,
+                List.of(leaseKey(), leaseDeadlinesKey()),
+                nodeId,
+                String.valueOf(reported),
+                String.valueOf(leaseTtlMs)
+        );
+
+        if (renewed != null && renewed == 1L) {
+            reportedTokens = reported;
+            return;
+        }
+
+        long reclaimed = reportedTokens;
+        localTokens.addAndGet(-reclaimed);
+        reportedTokens = 0;
+        log.warn("임대가 만료되어 다른 노드가 토큰 {}개를 중앙 재고로 회수했습니다. [노드: {}]", reclaimed, nodeId);
+    }
+
+    private void discardLocalTokens() {
+        long discarded = localTokens.getAndSet(0);
+        reportedTokens = 0;
+        if (discarded > 0) {
+            log.info("재고 재설정으로 로컬 재고 토큰 {}개를 폐기했습니다. [노드: {}]", discarded, nodeId);
+            try {
+                redisTemplate.opsForHash().delete(leaseKey(), nodeId);
+                redisTemplate.opsForZSet().remove(leaseDeadlinesKey(), nodeId);
+            } catch (Exception e) {
+                log.warn("폐기한 재고 임대 정보 삭제 실패. [노드: {}]", nodeId, e);
+            }
+        }
+    }
+
+    private String leaseKey() {
+        return giftStockKey + LEASE_KEY_SUFFIX;
+    }
+
+    private String leaseDeadlinesKey() {
+        return giftStockKey + LEASE_DEADLINES_KEY_SUFFIX;
+    }
+
+    private String winnersKey() {
+        return giftStockKey + WINNERS_KEY_SUFFIX;
+    }
+
+    private String roundStartedAtKey() {
+        return giftStockKey + ROUND_STARTED_AT_KEY_SUFFIX;
+    }
+}
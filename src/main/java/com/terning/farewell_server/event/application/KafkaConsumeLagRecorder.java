@@ -0,0 +1,44 @@
+package com.terning.farewell_server.event.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class KafkaConsumeLagRecorder {
+
+    private final MeterRegistry meterRegistry;
+
+    private Timer lagTimer;
+
+    @PostConstruct
+    public void init() {
+        lagTimer = Timer.builder("event.kafka.consume.lag")
+                .description("Kafka 레코드가 적재된 시각부터 컨슈머가 꺼내기까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordLag(ConsumerRecord<?, ?> record) {
+        recordLag(record, System.currentTimeMillis());
+    }
+
+    public void recordLag(ConsumerRecords<?, ?> records) {
+        long now = System.currentTimeMillis();
+        records.forEach(record -> recordLag(record, now));
+    }
+
+    private void recordLag(ConsumerRecord<?, ?> record, long now) {
+        if (record.timestamp() < 0) {
+            return;
+        }
+        lagTimer.record(Math.max(now - record.timestamp(), 0), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,68 @@
+package com.terning.farewell_server.event.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class PartitionDeduplicator implements ConsumerAwareRebalanceListener {
+
+    private final Map<TopicPartition, Map<String, Boolean>> processedEmailsByPartition = new ConcurrentHashMap<>();
+
+    @Value("${event.consumer.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${event.consumer.dedup.capacity-per-partition:10000}")
+    private int capacityPerPartition;
+
+    public boolean isDuplicate(TopicPartition partition, String email) {
+        if (!enabled) {
+            return false;
+        }
+        Map<String, Boolean> processedEmails = processedEmailsByPartition.get(partition);
+        return processedEmails != null && processedEmails.containsKey(email);
+    }
+
+    public void markProcessed(TopicPartition partition, String email) {
+        if (!enabled) {
+            return;
+        }
+        processedEmailsByPartition
+                .computeIfAbsent(partition, key -> createLruSet())
+                .put(email, Boolean.TRUE);
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        forget(partitions);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        forget(partitions);
+    }
+
+    private void forget(Collection<TopicPartition> partitions) {
+        partitions.forEach(processedEmailsByPartition::remove);
+        log.debug("리밸런싱으로 파티션 중복 캐시를 비웠습니다: {}", partitions);
+    }
+
+    private Map<String, Boolean> createLruSet() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacityPerPartition;
+            }
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.global.common.RedisService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutApplicationBuffer {
+
+    private final ApplicationService applicationService;
+    private final ApplicationStatusCache applicationStatusCache;
+    private final RedisService redisService;
+
+    private final Set<String> pendingEmails = ConcurrentHashMap.newKeySet();
+
+    @Value("${event.persistence.batch-size:500}")
+    private int batchSize;
+
+    @Value("${event.applied-marker.key-prefix:event:applied:}")
+    private String appliedMarkerPrefix;
+
+    public void add(String email) {
+        pendingEmails.add(email);
+    }
+
+    public int size() {
+        return pendingEmails.size();
+    }
+
+    @Scheduled(fixedDelayString = "${event.sold-out.flush-interval-ms:1000}")
+    public void flush() {
+        while (!pendingEmails.isEmpty()) {
+            List<ApplicationOutcome> outcomes = withoutAppliedUsers(drain());
+            if (outcomes.isEmpty()) {
+                continue;
+            }
+            try {
+                applicationStatusCache.putAll(applicationService.saveApplications(outcomes));
+                log.info("마감 이후 신청 {}건을 FAILURE로 일괄 저장했습니다.", outcomes.size());
+            } catch (Exception e) {
+                log.error("마감 이후 신청 일괄 저장 실패. 다음 주기에 재시도합니다. ({}건)", outcomes.size(), e);
+                outcomes.forEach(outcome -> pendingEmails.add(outcome.email()));
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<ApplicationOutcome> withoutAppliedUsers(List<ApplicationOutcome> outcomes) {
+        try {
+            Map<String, String> appliedMarkers = redisService.multiGet(outcomes.stream()
+                    .map(outcome -> appliedMarkerPrefix + outcome.email())
+                    .toList());
+            if (appliedMarkers.isEmpty()) {
+                return outcomes;
+            }
+            log.info("마감 전에 접수된 신청 {}건은 마감 기록에서 제외합니다.", appliedMarkers.size());
+            return outcomes.stream()
+                    .filter(outcome -> !appliedMarkers.containsKey(appliedMarkerPrefix + outcome.email()))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("신청 접수 표시 일괄 조회 실패. 모두 마감으로 저장합니다. ({}건)", outcomes.size(), e);
+            return outcomes;
+        }
+    }
+
+    private List<ApplicationOutcome> drain() {
+        List<ApplicationOutcome> outcomes = new ArrayList<>(batchSize);
+        Iterator<String> iterator = pendingEmails.iterator();
+        while (iterator.hasNext() && outcomes.size() < batchSize) {
+            String email = iterator.next();
+            iterator.remove();
+            outcomes.add(ApplicationOutcome.of(email, ApplicationStatus.FAILURE));
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,106 @@
+package com.terning.farewell_server.event.application;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutGate implements MessageListener {
+
+    static final String SOLD_OUT_MESSAGE = "SOLD_OUT";
+    static final String OPEN_MESSAGE = "OPEN";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final AtomicBoolean soldOut = new AtomicBoolean(false);
+    private final List<Runnable> stateChangeListeners = new CopyOnWriteArrayList<>();
+
+    @Value("${event.gift-stock-key}")
+    private String giftStockKey;
+
+    @Value("${event.sold-out.channel}")
+    private String soldOutChannel;
+
+    @Value("${event.stock.lease.enabled:false}")
+    private boolean leaseEnabled;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(soldOutChannel));
+
+        String stock = redisTemplate.opsForValue().get(giftStockKey);
+        if (stock != null && Long.parseLong(stock) <= 0 && !hasLiveLeases()) {
+            soldOut.set(true);
+            log.info("기동 시점에 이벤트 재고가 소진된 상태입니다. 신청 차단을 활성화합니다.");
+        }
+    }
+
+    private boolean hasLiveLeases() {
+        if (!leaseEnabled) {
+            return false;
+        }
+        Long liveLeases = redisTemplate.opsForZSet().count(
+                giftStockKey + GiftStockManager.LEASE_DEADLINES_KEY_SUFFIX,
+                System.currentTimeMillis(),
+                Double.POSITIVE_INFINITY
+        );
+        if (liveLeases != null && liveLeases > 0) {
+            log.info("중앙 재고는 소진됐지만 다른 노드가 임대 중인 토큰이 있어 신청을 받습니다. [임대 노드: {}]", liveLeases);
+            return true;
+        }
+        return false;
+    }
+
+    public void addStateChangeListener(Runnable listener) {
+        stateChangeListeners.add(listener);
+    }
+
+    public boolean isSoldOut() {
+        return soldOut.get();
+    }
+
+    public void markSoldOut() {
+        if (soldOut.compareAndSet(false, true)) {
+            log.info("이벤트 재고 소진. 모든 노드에 마감을 전파합니다. [채널: {}]", soldOutChannel);
+            redisTemplate.convertAndSend(soldOutChannel, SOLD_OUT_MESSAGE);
+        }
+    }
+
+    public void broadcastSoldOut() {
+        soldOut.set(true);
+        log.info("관리자가 이벤트를 마감했습니다. 모든 노드에 마감을 전파합니다. [채널: {}]", soldOutChannel);
+        redisTemplate.convertAndSend(soldOutChannel, SOLD_OUT_MESSAGE);
+    }
+
+    public void reopen() {
+        soldOut.set(false);
+        redisTemplate.convertAndSend(soldOutChannel, OPEN_MESSAGE);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (SOLD_OUT_MESSAGE.equals(body)) {
+            soldOut.set(true);
+        } else if (OPEN_MESSAGE.equals(body)) {
+            soldOut.set(false);
+        }
+        stateChangeListeners.forEach(Runnable::run);
+        log.debug("이벤트 마감 상태 갱신 수신: {}", body);
+    }
+}
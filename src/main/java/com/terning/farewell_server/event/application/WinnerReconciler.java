@@ -0,0 +1,182 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.Application;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationRepository;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.global.common.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.write-behind.enabled", havingValue = "true")
+public class WinnerReconciler {
+
+    private final GiftStockManager giftStockManager;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationWriteBehindBuffer applicationWriteBehindBuffer;
+    private final ApplicationService applicationService;
+    private final ApplicationStatusCache applicationStatusCache;
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+
+    private static final String RECONCILE_LOCK_KEY_SUFFIX = ":reconcile-lock";
+
+    @Value("${event.gift-stock-key}")
+    private String giftStockKey;
+
+    @Value("${event.write-behind.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${event.write-behind.reconcile-interval-ms:60000}")
+    private long reconcileIntervalMs;
+
+    @Value("${event.write-behind.reconcile-grace-ms:30000}")
+    private long reconcileGraceMs;
+
+    private Counter missingCounter;
+    private Counter repairedCounter;
+    private Counter conflictCounter;
+
+    @PostConstruct
+    public void init() {
+        if (giftStockManager.isLeaseEnabled()) {
+            throw new IllegalStateException("재고 임대 모드에서는 당첨자 집합이 기록되지 않아 write-behind 저장을 사용할 수 없습니다.");
+        }
+        missingCounter = reconcileCounter("missing");
+        repairedCounter = reconcileCounter("repaired");
+        conflictCounter = reconcileCounter("conflict");
+    }
+
+    @Scheduled(
+            initialDelayString = "${event.write-behind.reconcile-interval-ms:60000}",
+            fixedDelayString = "${event.write-behind.reconcile-interval-ms:60000}"
+    )
+    public void reconcile() {
+        try {
+            if (!redisService.setDataIfAbsent(giftStockKey + RECONCILE_LOCK_KEY_SUFFIX, "locked", Duration.ofMillis(reconcileIntervalMs))) {
+                log.debug("다른 인스턴스가 이번 주기의 당첨자 정합성 점검을 수행합니다.");
+                return;
+            }
+
+            long decidedBefore = System.currentTimeMillis() - reconcileGraceMs;
+            long missing = 0;
+            long repaired = 0;
+            long conflicts = 0;
+            try (Cursor<ZSetOperations.TypedTuple<String>> winners = giftStockManager.scanWinners(batchSize)) {
+                List<String> chunk = new ArrayList<>(batchSize);
+                while (winners.hasNext()) {
+                    ZSetOperations.TypedTuple<String> winner = winners.next();
+                    if (winner.getScore() == null || winner.getScore() > decidedBefore) {
+                        continue;
+                    }
+                    chunk.add(winner.getValue());
+                    if (chunk.size() == batchSize) {
+                        ReconcileResult result = reconcileChunk(chunk);
+                        missing += result.missing();
+                        repaired += result.repaired();
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    ReconcileResult result = reconcileChunk(chunk);
+                    missing += result.missing();
+                    repaired += result.repaired();
+                }
+            }
+
+            long roundSettledAt = giftStockManager.getRoundStartedAt() + reconcileGraceMs;
+            if (roundSettledAt < decidedBefore) {
+                long storedWinners = applicationRepository.countByStatusAndUpdatedAtBetween(
+                        ApplicationStatus.SUCCESS, toLocalDateTime(roundSettledAt), toLocalDateTime(decidedBefore));
+                long redisWinners = giftStockManager.countWinnersDecidedBetween(roundSettledAt, decidedBefore);
+                if (storedWinners > redisWinners) {
+                    log.error("이번 회차 DB의 당첨 건수가 Redis 당첨자 집합보다 많습니다. [DB: {}건, Redis: {}건]", storedWinners, redisWinners);
+                    conflicts += storedWinners - redisWinners;
+                }
+            }
+
+            missingCounter.increment(missing);
+            repairedCounter.increment(repaired);
+            conflictCounter.increment(conflicts);
+            if (missing > 0 || repaired > 0 || conflicts > 0) {
+                log.warn("당첨자 정합성 점검 완료. [DB 누락: {}건, FAILURE 복구: {}건, 불일치: {}건]", missing, repaired, conflicts);
+            } else {
+                log.info("당첨자 정합성 점검 완료. Redis와 DB가 일치합니다.");
+            }
+        } catch (Exception e) {
+            log.error("당첨자 정합성 점검 실패. 다음 주기에 다시 점검합니다.", e);
+        }
+    }
+
+    private ReconcileResult reconcileChunk(List<String> emails) {
+        Map<String, ApplicationStatus> storedStatuses = applicationRepository.findAllByEmailIn(emails).stream()
+                .collect(Collectors.toMap(Application::getEmail, Application::getStatus));
+
+        long missing = 0;
+        List<String> failedWinners = new ArrayList<>();
+        for (String email : emails) {
+            ApplicationStatus storedStatus = storedStatuses.get(email);
+            if (storedStatus == null) {
+                if (!applicationWriteBehindBuffer.contains(email)) {
+                    applicationWriteBehindBuffer.add(ApplicationOutcome.of(email, ApplicationStatus.SUCCESS));
+                    missing++;
+                }
+            } else if (storedStatus != ApplicationStatus.SUCCESS) {
+                failedWinners.add(email);
+            }
+        }
+        return new ReconcileResult(missing, repair(failedWinners));
+    }
+
+    private long repair(List<String> failedWinners) {
+        if (failedWinners.isEmpty()) {
+            return 0;
+        }
+
+        List<String> promoted = applicationService.promoteToWinners(failedWinners);
+        if (promoted.isEmpty()) {
+            return 0;
+        }
+        applicationStatusCache.putAll(promoted.stream()
+                .map(email -> ApplicationOutcome.of(email, ApplicationStatus.SUCCESS))
+                .toList());
+        log.error("Redis 당첨자가 DB에 FAILURE로 저장되어 있어 SUCCESS로 복구했습니다. [사용자: {}]", promoted);
+        return promoted.size();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private Counter reconcileCounter(String result) {
+        return Counter.builder("event.write-behind.reconcile")
+                .description("당첨자 정합성 점검에서 발견한 Redis와 DB의 차이")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record ReconcileResult(long missing, long repaired) {
+    }
+}
@@ -13,6 +13,7 @@ public enum EventErrorCode implements ErrorCode {
     ALREADY_PROCESSING_REQUEST(HttpStatus.CONFLICT, "현재 다른 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
     GIFT_STOCK_INFO_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "선물 재고 정보를 가져올 수 없습니다."),
     LOCK_ACQUISITION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "락을 획득하는 동안 문제가 발생했습니다."),
+    EVENT_PUBLISH_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "신청 접수에 실패했습니다. 잠시 후 다시 시도해주세요."),
 
     INVALID_ADMIN_KEY(HttpStatus.FORBIDDEN, "유효하지 않은 관리자 키입니다. 접근이 거부되었습니다.");
 
@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 public enum EventSuccessCode implements SuccessCode {
     GET_EVENT_STATUS_SUCCESS(HttpStatus.OK, "이벤트 신청 상태 조회를 성공했습니다."),
     EVENT_APPLICATION_ACCEPTED(HttpStatus.ACCEPTED, "신청이 정상적으로 접수되었습니다. 최종 결과는 이메일로 안내됩니다."),
+    APPLICATION_RESULT_PENDING(HttpStatus.ACCEPTED, "신청 결과를 처리 중입니다. 잠시 후 다시 확인해주세요."),
 
     SET_EVENT_STOCK_SUCCESS(HttpStatus.OK, "이벤트 재고 설정에 성공했습니다.");
 
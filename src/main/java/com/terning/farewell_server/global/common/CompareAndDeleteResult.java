@@ -0,0 +1,8 @@
+package com.terning.farewell_server.global.common;
+
+public enum CompareAndDeleteResult {
+    MATCHED,
+    MISMATCHED,
+    NOT_FOUND,
+    LOCKED
+}
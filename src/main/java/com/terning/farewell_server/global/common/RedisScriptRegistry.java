@@ -0,0 +1,142 @@
+package com.terning.farewell_server.global.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.DefaultScriptExecutor;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.script.ScriptExecutor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class RedisScriptRegistry {
+
+    private static final String METRIC = "redis.script";
+    private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ScriptExecutor<String> scriptExecutor;
+
+    private final Map<String, RegisteredScript> scriptsByName = new ConcurrentHashMap<>();
+    private final Map<String, RegisteredScript> scriptsBySha = new ConcurrentHashMap<>();
+
+    public RedisScriptRegistry(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.scriptExecutor = new EvalShaScriptExecutor(redisTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisScript<T> register(String name, String scriptText, Class<T> resultType) {
+        RegisteredScript registered = scriptsByName.computeIfAbsent(name, key -> {
+            RegisteredScript created = new RegisteredScript(
+                    key,
+                    new DefaultRedisScript<>(scriptText, resultType),
+                    Timer.builder(METRIC)
+                            .tag("script", key)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry),
+                    Counter.builder(METRIC + ".reloads")
+                            .tag("script", key)
+                            .register(meterRegistry)
+            );
+            scriptsBySha.put(created.script().getSha1(), created);
+            return created;
+        });
+
+        if (!registered.script().getScriptAsString().equals(scriptText)) {
+            throw new IllegalStateException("이미 다른 내용으로 등록된 Lua 스크립트입니다: " + name);
+        }
+        return (RedisScript<T>) registered.script();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (scriptsByName.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (RegisteredScript registered : scriptsByName.values()) {
+                    connection.scriptingCommands().scriptLoad(registered.script().getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            log.info("Lua 스크립트 {}개를 Redis에 미리 적재했습니다. {}", scriptsByName.size(), scriptsByName.keySet());
+        } catch (Exception e) {
+            log.warn("Lua 스크립트 사전 적재 실패. 첫 호출 시 다시 적재합니다.", e);
+        }
+    }
+
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        RegisteredScript registered = scriptsBySha.get(script.getSha1());
+        if (registered == null) {
+            throw new IllegalStateException("등록되지 않은 Lua 스크립트입니다. [SHA: " + script.getSha1() + "]");
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            return scriptExecutor.execute(script, keys, args);
+        } finally {
+            registered.timer().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static boolean isNoScriptError(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(NO_SCRIPT_ERROR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record RegisteredScript(String name, RedisScript<?> script, Timer timer, Counter reloads) {
+    }
+
+    private class EvalShaScriptExecutor extends DefaultScriptExecutor<String> {
+
+        EvalShaScriptExecutor(StringRedisTemplate redisTemplate) {
+            super(redisTemplate);
+        }
+
+        @Override
+        protected <T> T eval(RedisConnection connection, RedisScript<T> script, ReturnType returnType,
+                             int numKeys, byte[][] keysAndArgs, RedisSerializer<T> resultSerializer) {
+            RedisScriptingCommands scriptingCommands = connection.scriptingCommands();
+            Object result;
+            try {
+                result = scriptingCommands.evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+            } catch (RuntimeException e) {
+                if (!isNoScriptError(e)) {
+                    throw e;
+                }
+                RegisteredScript registered = scriptsBySha.get(script.getSha1());
+                log.warn("Redis에 Lua 스크립트가 없어 다시 적재합니다. [스크립트: {}]", registered.name());
+                registered.reloads().increment();
+                scriptingCommands.scriptLoad(scriptBytes(script));
+                result = scriptingCommands.evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+            }
+            return deserializeResult(resultSerializer, result);
+        }
+    }
+}
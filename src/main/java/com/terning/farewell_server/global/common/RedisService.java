@@ -1,21 +1,71 @@
 package com.terning.farewell_server.global.common;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+
+    private RedisScript<Long> compareAndDeleteScript;
+
+    private static final String COMPARE_AND_DELETE_LUA_SCRIPT =
+            "local attempts = tonumber(redis.call('get', KEYS[2]) or '0') " +
+                    "if attempts >= tonumber(ARGV[2]) then " +
+                    "  return -2 " +
+                    "end " +
+                    "local stored = redis.call('get', KEYS[1]) " +
+                    "if not stored then " +
+                    "  return 0 " +
+                    "end " +
+                    "if stored == ARGV[1] then " +
+                    "  redis.call('del', KEYS[1], KEYS[2]) " +
+                    "  return 1 " +
+                    "end " +
+                    "attempts = redis.call('incr', KEYS[2]) " +
+                    "if attempts >= tonumber(ARGV[2]) then " +
+                    "  redis.call('del', KEYS[1]) " +
+                    "  redis.call('pexpire', KEYS[2], ARGV[3]) " +
+                    "elseif attempts == 1 then " +
+                    "  redis.call('pexpire', KEYS[2], ARGV[3]) " +
+                    "end " +
+                    "return -1";
+
+    private static final long MATCHED = 1L;
+    private static final long NOT_FOUND = 0L;
+    private static final long LOCKED = -2L;
+
+    @PostConstruct
+    public void init() {
+        compareAndDeleteScript = redisScriptRegistry.register("compare-and-delete", COMPARE_AND_DELETE_LUA_SCRIPT, Long.class);
+    }
 
     public void setDataWithExpiration(String key, String value, Duration duration) {
         redisTemplate.opsForValue().set(key, value, duration);
     }
 
+    public boolean setDataIfAbsent(String key, String value, Duration duration) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, duration));
+    }
+
     public String getData(String key) {
         return redisTemplate.opsForValue().get(key);
     }
@@ -23,4 +73,82 @@ public class RedisService {
     public void deleteData(String key) {
         redisTemplate.delete(key);
     }
+
+    public Map<String, String> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(keys.get(i), values.get(i));
+            }
+        }
+        return result;
+    }
+
+    public void setAllWithExpiration(Map<String, String> entries, Duration duration) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            entries.forEach((key, value) -> stringConnection.pSetEx(key, duration.toMillis(), value));
+            return null;
+        });
+    }
+
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+    }
+
+    public long deleteByPrefix(String prefix, int batchSize) {
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(batchSize).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() == batchSize) {
+                    deleteAll(batch);
+                    deleted += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        deleteAll(batch);
+        return deleted + batch.size();
+    }
+
+    public CompareAndDeleteResult compareAndDelete(String key, String expectedValue,
+                                                   String attemptsKey, int maxAttempts, Duration lockout) {
+        Long result = redisScriptRegistry.execute(
+                compareAndDeleteScript,
+                List.of(key, attemptsKey),
+                expectedValue,
+                String.valueOf(maxAttempts),
+                String.valueOf(lockout.toMillis())
+        );
+
+        if (result == null || result == NOT_FOUND) {
+            return CompareAndDeleteResult.NOT_FOUND;
+        }
+        if (result == MATCHED) {
+            return CompareAndDeleteResult.MATCHED;
+        }
+        if (result == LOCKED) {
+            return CompareAndDeleteResult.LOCKED;
+        }
+        return CompareAndDeleteResult.MISMATCHED;
+    }
 }
@@ -1,7 +1,11 @@
 package com.terning.farewell_server.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
@@ -13,8 +17,10 @@ public class AsyncConfig {
     private static final int CORE_POOL_SIZE = 10;
     private static final int MAX_POOL_SIZE = 20;
     private static final int QUEUE_CAPACITY = 500;
+    private static final int OUTBOX_POOL_SIZE = 1;
 
     @Bean(name = "mailExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
     public Executor mailExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(CORE_POOL_SIZE);
@@ -27,4 +33,59 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "mailExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualMailExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("MailExecutor-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean(name = "mailOutboxExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor mailOutboxExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(OUTBOX_POOL_SIZE);
+        executor.setMaxPoolSize(OUTBOX_POOL_SIZE);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("MailOutbox-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "mailOutboxExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualMailOutboxExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("MailOutbox-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(OUTBOX_POOL_SIZE);
+        return executor;
+    }
+
+    @Bean(name = "verificationMailExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor verificationMailExecutor(@Value("${mail.verification.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(CORE_POOL_SIZE);
+        executor.setMaxPoolSize(MAX_POOL_SIZE);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("VerificationMail-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "verificationMailExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualVerificationMailExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("VerificationMail-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
@@ -0,0 +1,71 @@
+package com.terning.farewell_server.global.config;
+
+import com.terning.farewell_server.event.application.KafkaConsumeLagRecorder;
+import com.terning.farewell_server.event.application.PartitionDeduplicator;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+@Configuration
+public class KafkaConfig {
+
+    private static final long RETRY_INTERVAL_MS = 1000L;
+    private static final long MAX_RETRY_ATTEMPTS = 2L;
+    private static final String BATCH_DLT_SUFFIX = ".DLT";
+    private static final int ANY_PARTITION = -1;
+
+    @Bean
+    public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> eventListenerContainerCustomizer(
+            PartitionDeduplicator partitionDeduplicator,
+            KafkaConsumeLagRecorder kafkaConsumeLagRecorder) {
+        return container -> {
+            container.getContainerProperties().setConsumerRebalanceListener(partitionDeduplicator);
+            if (container.getContainerProperties().getMessageListener() instanceof BatchMessageListener<?, ?>) {
+                container.setBatchInterceptor((records, consumer) -> {
+                    kafkaConsumeLagRecorder.recordLag(records);
+                    return records;
+                });
+            } else {
+                container.setRecordInterceptor((record, consumer) -> {
+                    kafkaConsumeLagRecorder.recordLag(record);
+                    return record;
+                });
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "event.consumer.batch.enabled", havingValue = "true")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            KafkaTemplate<String, String> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + BATCH_DLT_SUFFIX, ANY_PARTITION));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(RETRY_INTERVAL_MS, MAX_RETRY_ATTEMPTS)));
+        return factory;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "event.consumer.batch.enabled", havingValue = "true")
+    public NewTopic batchDeadLetterTopic(@Value("${event.kafka-topic}") String kafkaTopic) {
+        return TopicBuilder.name(kafkaTopic + BATCH_DLT_SUFFIX).build();
+    }
+}
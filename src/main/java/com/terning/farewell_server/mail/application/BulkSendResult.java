@@ -0,0 +1,12 @@
+package com.terning.farewell_server.mail.application;
+
+import jakarta.mail.internet.MimeMessage;
+
+import java.util.List;
+
+public record BulkSendResult(int sentCount, List<MimeMessage> failedMessages, List<MimeMessage> deferredMessages) {
+
+    public boolean isAllSent() {
+        return failedMessages.isEmpty() && deferredMessages.isEmpty();
+    }
+}
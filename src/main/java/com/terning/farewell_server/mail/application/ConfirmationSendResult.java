@@ -0,0 +1,6 @@
+package com.terning.farewell_server.mail.application;
+
+import java.util.List;
+
+public record ConfirmationSendResult(List<String> failedEmails, List<String> deferredEmails) {
+}
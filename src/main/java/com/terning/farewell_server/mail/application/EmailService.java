@@ -2,17 +2,24 @@ package com.terning.farewell_server.mail.application;
 
 import com.terning.farewell_server.mail.exception.MailErrorCode;
 import com.terning.farewell_server.mail.exception.MailException;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -20,52 +27,186 @@ import org.thymeleaf.spring6.SpringTemplateEngine;
 public class EmailService {
 
     private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final MailTemplateCache mailTemplateCache;
+    private final SmtpTransportPool smtpTransportPool;
+    private final MailRateLimiter mailRateLimiter;
+    private final MailScheduler mailScheduler;
 
     @Value("${spring.mail.from}")
     private String fromEmail;
 
+    private byte[] verificationPrototype;
+    private byte[] confirmationPrototype;
+
     private static final String VERIFICATION_EMAIL_SUBJECT = "[터닝] 마지막 선물 신청을 위한 인증 코드입니다.";
     private static final String CONFIRMATION_EMAIL_SUBJECT = "[터닝] 선물 신청이 확정되었습니다.";
     private static final String TEST_EMAIL_DOMAIN = "@example.com";
+    private static final String CHARSET = "UTF-8";
+    private static final String HTML_SUBTYPE = "html";
+    private static final String MESSAGE_ID_HEADER = "Message-ID";
 
-    public void sendVerificationCode(String toEmail, String code) {
-        Context context = new Context();
-        context.setVariable("code", code);
-        String htmlContent = templateEngine.process("verificationCode", context);
-        sendEmail(toEmail, VERIFICATION_EMAIL_SUBJECT, htmlContent);
+    @PostConstruct
+    public void init() throws MessagingException, IOException {
+        verificationPrototype = createPrototype(VERIFICATION_EMAIL_SUBJECT, "");
+        confirmationPrototype = createPrototype(CONFIRMATION_EMAIL_SUBJECT, mailTemplateCache.getConfirmationBody());
     }
 
-    @Async("mailExecutor")
-    public void sendConfirmationEmail(String toEmail) {
-        String targetEmail = toEmail;
+    public void sendVerificationCode(String toEmail, String code) {
+        sendEmail(toEmail, MailLane.VERIFICATION, verificationPrototype, mailTemplateCache.renderVerificationBody(code));
+    }
 
-        if (toEmail.contains("@") && toEmail.endsWith(TEST_EMAIL_DOMAIN)) {
-            String localPart = toEmail.substring(0, toEmail.indexOf('@'));
-            targetEmail = localPart + "+success@simulator.amazonses.com";
-            log.info("테스트용 이메일 감지. SES 시뮬레이터 주소로 변경: {} -> {}", toEmail, targetEmail);
+    public ConfirmationSendResult sendConfirmationEmails(List<String> toEmails) {
+        List<String> failedEmails = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>();
+        Map<MimeMessage, String> recipients = new IdentityHashMap<>();
+        for (String toEmail : toEmails) {
+            try {
+                MimeMessage mimeMessage = createMessage(resolveTargetEmail(toEmail), confirmationPrototype, null);
+                messages.add(mimeMessage);
+                recipients.put(mimeMessage, toEmail);
+            } catch (MessagingException | org.springframework.mail.MailException e) {
+                log.error("이메일 생성 실패. 수신자: {}", toEmail, e);
+                failedEmails.add(toEmail);
+            }
         }
 
-        Context context = new Context();
-        String htmlContent = templateEngine.process("confirmationEmail", context);
-        sendEmail(targetEmail, CONFIRMATION_EMAIL_SUBJECT, htmlContent);
+        if (smtpTransportPool.isEnabled()) {
+            return sendConfirmationBatch(toEmails, messages, recipients, failedEmails);
+        }
+        return sendConfirmationEach(toEmails, messages, recipients, failedEmails);
     }
 
-    private void sendEmail(String toEmail, String subject, String htmlBody) {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+    private ConfirmationSendResult sendConfirmationBatch(List<String> toEmails, List<MimeMessage> messages,
+                                                         Map<MimeMessage, String> recipients, List<String> failedEmails) {
+        if (messages.isEmpty()) {
+            return complete(toEmails, failedEmails, List.of());
+        }
+
         try {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+            BulkSendResult result = mailScheduler.execute(MailLane.CONFIRMATION, () ->
+                    smtpTransportPool.sendAll(messages, () -> mailRateLimiter.acquire(MailLane.CONFIRMATION)));
+            failedEmails.addAll(recipientsOf(result.failedMessages(), recipients));
+            List<String> deferredEmails = recipientsOf(result.deferredMessages(), recipients);
+            if (!deferredEmails.isEmpty()) {
+                log.info("메일 발송 한도가 부족해 확정 이메일 {}건의 발송을 미룹니다.", deferredEmails.size());
+            }
+            return complete(toEmails, failedEmails, deferredEmails);
+        } catch (MailException e) {
+            if (!isBackPressure(e)) {
+                log.error("확정 이메일 일괄 발송 실패. [{}건]", messages.size(), e);
+                failedEmails.addAll(recipientsOf(messages, recipients));
+                return complete(toEmails, failedEmails, List.of());
+            }
+            List<String> deferredEmails = recipientsOf(messages, recipients);
+            log.info("메일 발송 한도 또는 발송 슬롯이 부족해 확정 이메일 {}건의 발송을 미룹니다.", deferredEmails.size());
+            return complete(toEmails, failedEmails, deferredEmails);
+        }
+    }
 
-            mimeMessageHelper.setFrom(fromEmail);
-            mimeMessageHelper.setTo(toEmail);
-            mimeMessageHelper.setSubject(subject);
-            mimeMessageHelper.setText(htmlBody, true);
+    private ConfirmationSendResult sendConfirmationEach(List<String> toEmails, List<MimeMessage> messages,
+                                                        Map<MimeMessage, String> recipients, List<String> failedEmails) {
+        for (int i = 0; i < messages.size(); i++) {
+            MimeMessage mimeMessage = messages.get(i);
+            String toEmail = recipients.get(mimeMessage);
+            try {
+                if (!mailScheduler.execute(MailLane.CONFIRMATION, () -> {
+                    mailRateLimiter.acquire(MailLane.CONFIRMATION);
+                    return deliverConfirmation(toEmail, mimeMessage);
+                })) {
+                    failedEmails.add(toEmail);
+                }
+            } catch (MailException e) {
+                if (!isBackPressure(e)) {
+                    log.error("확정 이메일 발송 실패. 수신자: {}", toEmail, e);
+                    failedEmails.add(toEmail);
+                    continue;
+                }
+                List<String> deferredEmails = recipientsOf(messages.subList(i, messages.size()), recipients);
+                log.info("메일 발송 한도 또는 발송 슬롯이 부족해 확정 이메일 {}건의 발송을 미룹니다.", deferredEmails.size());
+                return complete(toEmails, failedEmails, deferredEmails);
+            }
+        }
+        return complete(toEmails, failedEmails, List.of());
+    }
 
-            javaMailSender.send(mimeMessage);
-            log.info("이메일 발송 성공! 수신자: {}, 제목: {}", toEmail, subject);
+    private void sendEmail(String toEmail, MailLane lane, byte[] prototype, String htmlBody) {
+        mailScheduler.run(lane, () -> {
+            mailRateLimiter.acquire(lane);
+            deliver(toEmail, prototype, htmlBody);
+        });
+    }
+
+    private void deliver(String toEmail, byte[] prototype, String htmlBody) {
+        try {
+            MimeMessage mimeMessage = createMessage(toEmail, prototype, htmlBody);
+            if (smtpTransportPool.isEnabled()) {
+                smtpTransportPool.send(mimeMessage);
+            } else {
+                javaMailSender.send(mimeMessage);
+            }
+            log.info("이메일 발송 성공! 수신자: {}, 제목: {}", toEmail, mimeMessage.getSubject());
         } catch (MessagingException | org.springframework.mail.MailException e) {
             log.error("이메일 발송 실패. 수신자: {}", toEmail, e);
             throw new MailException(MailErrorCode.EMAIL_SEND_FAILURE);
         }
     }
+
+    private boolean deliverConfirmation(String toEmail, MimeMessage mimeMessage) {
+        try {
+            javaMailSender.send(mimeMessage);
+            return true;
+        } catch (org.springframework.mail.MailException e) {
+            log.error("이메일 발송 실패. 수신자: {}", toEmail, e);
+            return false;
+        }
+    }
+
+    private ConfirmationSendResult complete(List<String> toEmails, List<String> failedEmails, List<String> deferredEmails) {
+        log.info("확정 이메일 발송 완료. [성공: {}건, 실패: {}건, 보류: {}건]",
+                toEmails.size() - failedEmails.size() - deferredEmails.size(), failedEmails.size(), deferredEmails.size());
+        return new ConfirmationSendResult(failedEmails, deferredEmails);
+    }
+
+    private List<String> recipientsOf(List<MimeMessage> messages, Map<MimeMessage, String> recipients) {
+        return messages.stream()
+                .map(recipients::get)
+                .toList();
+    }
+
+    private boolean isBackPressure(MailException e) {
+        return e.getErrorCode() == MailErrorCode.MAIL_RATE_LIMITED
+                || e.getErrorCode() == MailErrorCode.SMTP_POOL_EXHAUSTED;
+    }
+
+    private MimeMessage createMessage(String toEmail, byte[] prototype, String htmlBody) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage(new ByteArrayInputStream(prototype));
+        mimeMessage.setRecipient(Message.RecipientType.TO, new InternetAddress(toEmail));
+        if (htmlBody != null) {
+            mimeMessage.setText(htmlBody, CHARSET, HTML_SUBTYPE);
+        }
+        return mimeMessage;
+    }
+
+    private String resolveTargetEmail(String toEmail) {
+        if (toEmail.contains("@") && toEmail.endsWith(TEST_EMAIL_DOMAIN)) {
+            String localPart = toEmail.substring(0, toEmail.indexOf('@'));
+            String targetEmail = localPart + "+success@simulator.amazonses.com";
+            log.info("테스트용 이메일 감지. SES 시뮬레이터 주소로 변경: {} -> {}", toEmail, targetEmail);
+            return targetEmail;
+        }
+        return toEmail;
+    }
+
+    private byte[] createPrototype(String subject, String htmlBody) throws MessagingException, IOException {
+        MimeMessage prototype = javaMailSender.createMimeMessage();
+        prototype.setFrom(new InternetAddress(fromEmail));
+        prototype.setSubject(subject, CHARSET);
+        prototype.setText(htmlBody, CHARSET, HTML_SUBTYPE);
+        prototype.saveChanges();
+        prototype.removeHeader(MESSAGE_ID_HEADER);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        prototype.writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
 }
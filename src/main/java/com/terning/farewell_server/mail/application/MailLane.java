@@ -0,0 +1,6 @@
+package com.terning.farewell_server.mail.application;
+
+public enum MailLane {
+    VERIFICATION,
+    CONFIRMATION
+}
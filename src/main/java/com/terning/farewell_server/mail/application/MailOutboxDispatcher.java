@@ -0,0 +1,116 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.domain.MailOutbox;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService mailOutboxService;
+    private final EmailService emailService;
+    private final Executor mailOutboxExecutor;
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    @Value("${mail.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    public MailOutboxDispatcher(MailOutboxService mailOutboxService,
+                                EmailService emailService,
+                                @Qualifier("mailOutboxExecutor") Executor mailOutboxExecutor) {
+        this.mailOutboxService = mailOutboxService;
+        this.emailService = emailService;
+        this.mailOutboxExecutor = mailOutboxExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.warn("메일 아웃박스가 비활성화되어 있습니다. 확정 메일은 트랜잭션 커밋 직후 재시도 없이 바로 발송됩니다.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<MailOutbox> claimed = List.of();
+        try {
+            claimed = mailOutboxService.claim(batchSize);
+            if (claimed.isEmpty()) {
+                dispatching.set(false);
+                return;
+            }
+
+            List<MailOutbox> batch = claimed;
+            mailOutboxExecutor.execute(() -> {
+                try {
+                    send(batch);
+                } catch (Exception e) {
+                    log.error("메일 아웃박스 발송 결과 반영 실패. 임대가 만료되면 다시 발송합니다. ({}건)", batch.size(), e);
+                } finally {
+                    dispatching.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("메일 아웃박스 발송 스레드가 바쁩니다. 가져온 메일의 임대를 풀고 다음 주기에 발송합니다. ({}건)", claimed.size());
+            mailOutboxService.release(claimed.stream().map(MailOutbox::getId).toList());
+            dispatching.set(false);
+        } catch (Exception e) {
+            dispatching.set(false);
+            throw e;
+        }
+    }
+
+    private void send(List<MailOutbox> claimed) {
+        List<String> recipients = claimed.stream().map(MailOutbox::getRecipient).toList();
+        ConfirmationSendResult result;
+        try {
+            result = emailService.sendConfirmationEmails(recipients);
+        } catch (Exception e) {
+            log.error("메일 아웃박스 발송 실패. 다음 주기에 재시도합니다. ({}건)", recipients.size(), e);
+            result = new ConfirmationSendResult(recipients, List.of());
+        }
+
+        Set<String> deferredRecipients = new HashSet<>(result.deferredEmails());
+        List<Long> deferredIds = claimed.stream()
+                .filter(mailOutbox -> deferredRecipients.contains(mailOutbox.getRecipient()))
+                .map(MailOutbox::getId)
+                .toList();
+        List<Long> attemptedIds = claimed.stream()
+                .filter(mailOutbox -> !deferredRecipients.contains(mailOutbox.getRecipient()))
+                .map(MailOutbox::getId)
+                .toList();
+
+        if (!deferredIds.isEmpty()) {
+            log.info("메일 발송 한도 또는 발송 슬롯이 부족합니다. 재시도 횟수를 늘리지 않고 다음 주기에 발송합니다. ({}건)", deferredIds.size());
+            mailOutboxService.release(deferredIds);
+        }
+        if (!attemptedIds.isEmpty()) {
+            mailOutboxService.complete(attemptedIds, new HashSet<>(result.failedEmails()));
+            log.info("메일 아웃박스 발송 완료. [성공: {}건, 실패: {}건]",
+                    attemptedIds.size() - result.failedEmails().size(), result.failedEmails().size());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.domain.MailOutbox;
+import com.terning.farewell_server.mail.domain.MailOutboxRepository;
+import com.terning.farewell_server.mail.domain.MailOutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    private static final long MAX_BACKOFF_MS = Duration.ofMinutes(5).toMillis();
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final EmailService emailService;
+    private final Executor mailExecutor;
+
+    @Value("${mail.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mail.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${mail.outbox.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository,
+                             EmailService emailService,
+                             @Qualifier("mailExecutor") Executor mailExecutor) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.emailService = emailService;
+        this.mailExecutor = mailExecutor;
+    }
+
+    public void enqueueConfirmations(List<String> recipients) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        if (enabled) {
+            mailOutboxRepository.saveAll(recipients.stream().map(MailOutbox::confirmation).toList());
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sendDirectly(recipients);
+                }
+            });
+        } else {
+            sendDirectly(recipients);
+        }
+    }
+
+    @Transactional
+    public List<MailOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> claimed = mailOutboxRepository.findDispatchable(MailOutboxStatus.PENDING, now, PageRequest.of(0, limit));
+        LocalDateTime leaseExpiresAt = now.plus(Duration.ofMillis(leaseMs));
+        claimed.forEach(mailOutbox -> mailOutbox.lease(leaseExpiresAt));
+        return claimed;
+    }
+
+    @Transactional
+    public void complete(List<Long> claimedIds, Set<String> failedRecipients) {
+        LocalDateTime now = LocalDateTime.now();
+        for (MailOutbox mailOutbox : mailOutboxRepository.findAllById(claimedIds)) {
+            if (!failedRecipients.contains(mailOutbox.getRecipient())) {
+                mailOutbox.markSent();
+                continue;
+            }
+
+            mailOutbox.markFailed(now.plus(Duration.ofMillis(backoffMs(mailOutbox.getAttempts()))), maxAttempts);
+            if (mailOutbox.getStatus() == MailOutboxStatus.FAILED) {
+                log.error("메일 발송 최대 재시도 횟수 초과. [수신자: {}, 시도: {}회]", mailOutbox.getRecipient(), mailOutbox.getAttempts());
+            }
+        }
+    }
+
+    @Transactional
+    public void release(List<Long> claimedIds) {
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.findAllById(claimedIds).forEach(mailOutbox -> mailOutbox.releaseLease(now));
+    }
+
+    private void sendDirectly(List<String> recipients) {
+        mailExecutor.execute(() -> {
+            try {
+                ConfirmationSendResult result = emailService.sendConfirmationEmails(recipients);
+                if (!result.failedEmails().isEmpty() || !result.deferredEmails().isEmpty()) {
+                    log.error("아웃박스 없이 보낸 확정 메일 중 일부를 보내지 못했습니다. 재시도하지 않습니다. [실패: {}, 보류: {}]",
+                            result.failedEmails(), result.deferredEmails());
+                }
+            } catch (Exception e) {
+                log.error("아웃박스 없이 보낸 확정 메일 발송 실패. 재시도하지 않습니다. [수신자: {}]", recipients, e);
+            }
+        });
+    }
+
+    private long backoffMs(int previousAttempts) {
+        return Math.min(retryBackoffMs << Math.min(previousAttempts, 20), MAX_BACKOFF_MS);
+    }
+}
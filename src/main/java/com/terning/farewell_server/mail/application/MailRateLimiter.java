@@ -0,0 +1,99 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateLimiterConfig;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailRateLimiter {
+
+    private static final String DAILY_KEY_SUFFIX = "daily";
+
+    private final RedissonClient redissonClient;
+
+    private final Map<MailLane, RRateLimiter> laneLimiters = new EnumMap<>(MailLane.class);
+    private final Map<MailLane, Long> laneMaxWaitMs = new EnumMap<>(MailLane.class);
+    private RRateLimiter dailyLimiter;
+
+    @Value("${mail.rate-limit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${mail.rate-limit.key-prefix:mail:rate-limit:}")
+    private String keyPrefix;
+
+    @Value("${mail.rate-limit.daily-quota:2000}")
+    private long dailyQuota;
+
+    @Value("${mail.rate-limit.verification.permits-per-second:5}")
+    private long verificationPermitsPerSecond;
+
+    @Value("${mail.rate-limit.verification.max-wait-ms:3000}")
+    private long verificationMaxWaitMs;
+
+    @Value("${mail.rate-limit.confirmation.permits-per-second:5}")
+    private long confirmationPermitsPerSecond;
+
+    @Value("${mail.rate-limit.confirmation.max-wait-ms:30000}")
+    private long confirmationMaxWaitMs;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+
+        registerLane(MailLane.VERIFICATION, verificationPermitsPerSecond, verificationMaxWaitMs);
+        registerLane(MailLane.CONFIRMATION, confirmationPermitsPerSecond, confirmationMaxWaitMs);
+        dailyLimiter = limiter(DAILY_KEY_SUFFIX, dailyQuota, RateIntervalUnit.DAYS);
+    }
+
+    public void acquire(MailLane lane) {
+        if (!enabled) {
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + laneMaxWaitMs.get(lane);
+        tryAcquire(dailyLimiter, deadline, lane);
+        tryAcquire(laneLimiters.get(lane), deadline, lane);
+    }
+
+    private void registerLane(MailLane lane, long permitsPerSecond, long maxWaitMs) {
+        laneLimiters.put(lane, limiter(lane.name().toLowerCase(), permitsPerSecond, RateIntervalUnit.SECONDS));
+        laneMaxWaitMs.put(lane, maxWaitMs);
+    }
+
+    private RRateLimiter limiter(String name, long rate, RateIntervalUnit unit) {
+        RRateLimiter limiter = redissonClient.getRateLimiter(keyPrefix + name);
+        if (!limiter.trySetRate(RateType.OVERALL, rate, 1, unit)) {
+            RateLimiterConfig config = limiter.getConfig();
+            if (config.getRate() != rate || config.getRateInterval() != unit.toMillis(1)) {
+                limiter.setRate(RateType.OVERALL, rate, 1, unit);
+                log.info("메일 발송 한도 설정이 변경되어 갱신했습니다. [버킷: {}, 한도: {}/{}]", name, rate, unit);
+            }
+        }
+        return limiter;
+    }
+
+    private void tryAcquire(RRateLimiter limiter, long deadline, MailLane lane) {
+        long waitMs = Math.max(deadline - System.currentTimeMillis(), 0);
+        if (!limiter.tryAcquire(1, waitMs, TimeUnit.MILLISECONDS)) {
+            log.warn("메일 발송 한도를 초과했습니다. [레인: {}]", lane);
+            throw new MailException(MailErrorCode.MAIL_RATE_LIMITED);
+        }
+    }
+}
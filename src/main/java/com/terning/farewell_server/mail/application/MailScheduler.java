@@ -0,0 +1,152 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailScheduler {
+
+    private static final String METRIC = "mail.scheduler";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotReleased = lock.newCondition();
+    private final Map<MailLane, AtomicInteger> waitingCounts = new EnumMap<>(MailLane.class);
+    private final Map<MailLane, Timer> waitTimers = new EnumMap<>(MailLane.class);
+    private final Map<MailLane, Timer> sendTimers = new EnumMap<>(MailLane.class);
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    @Value("${mail.scheduler.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${mail.scheduler.reserved-for-verification:1}")
+    private int reservedForVerification;
+
+    @Value("${mail.scheduler.verification.max-wait-ms:3000}")
+    private long verificationMaxWaitMs;
+
+    @Value("${mail.scheduler.confirmation.max-wait-ms:30000}")
+    private long confirmationMaxWaitMs;
+
+    @PostConstruct
+    public void init() {
+        for (MailLane lane : MailLane.values()) {
+            AtomicInteger waitingCount = new AtomicInteger();
+            waitingCounts.put(lane, waitingCount);
+            Gauge.builder(METRIC + ".queue.depth", waitingCount, AtomicInteger::get)
+                    .description("발송 슬롯을 기다리는 메일 요청 수")
+                    .tag("lane", laneTag(lane))
+                    .register(meterRegistry);
+            waitTimers.put(lane, Timer.builder(METRIC + ".wait")
+                    .description("메일 요청이 발송 슬롯을 얻기까지 기다린 시간")
+                    .tag("lane", laneTag(lane))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            sendTimers.put(lane, Timer.builder(METRIC + ".send")
+                    .description("발송 슬롯을 얻은 뒤 메일 발송에 걸린 시간")
+                    .tag("lane", laneTag(lane))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        Gauge.builder(METRIC + ".active", activeCount, AtomicInteger::get)
+                .description("발송 중인 메일 요청 수")
+                .register(meterRegistry);
+    }
+
+    public void run(MailLane lane, Runnable task) {
+        execute(lane, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(MailLane lane, Supplier<T> task) {
+        acquire(lane);
+        try {
+            return sendTimers.get(lane).record(task);
+        } finally {
+            release();
+        }
+    }
+
+    public int getWaitingCount(MailLane lane) {
+        return waitingCounts.get(lane).get();
+    }
+
+    private void acquire(MailLane lane) {
+        long startedAt = System.nanoTime();
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs(lane));
+        AtomicInteger waitingCount = waitingCounts.get(lane);
+        waitingCount.incrementAndGet();
+        lock.lock();
+        try {
+            while (!canStart(lane)) {
+                if (remainingNanos <= 0) {
+                    log.warn("메일 발송 슬롯을 얻지 못했습니다. [레인: {}, 대기: {}건]", lane, waitingCount.get());
+                    throw new MailException(MailErrorCode.SMTP_POOL_EXHAUSTED);
+                }
+                remainingNanos = slotReleased.awaitNanos(remainingNanos);
+            }
+            activeCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailException(MailErrorCode.EMAIL_SEND_FAILURE);
+        } finally {
+            waitingCount.decrementAndGet();
+            if (lane == MailLane.VERIFICATION) {
+                slotReleased.signalAll();
+            }
+            lock.unlock();
+            waitTimers.get(lane).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            activeCount.decrementAndGet();
+            slotReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean canStart(MailLane lane) {
+        int active = activeCount.get();
+        if (lane == MailLane.VERIFICATION) {
+            return active < maxConcurrency;
+        }
+        return active < confirmationCapacity() && waitingCounts.get(MailLane.VERIFICATION).get() == 0;
+    }
+
+    private int confirmationCapacity() {
+        return Math.max(maxConcurrency - reservedForVerification, 1);
+    }
+
+    private long maxWaitMs(MailLane lane) {
+        return lane == MailLane.VERIFICATION ? verificationMaxWaitMs : confirmationMaxWaitMs;
+    }
+
+    private String laneTag(MailLane lane) {
+        return lane.name().toLowerCase();
+    }
+}
@@ -0,0 +1,54 @@
+package com.terning.farewell_server.mail.application;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailTemplateCache {
+
+    private static final String CONFIRMATION_TEMPLATE = "confirmationEmail";
+    private static final String VERIFICATION_TEMPLATE = "verificationCode";
+    private static final String CODE_PLACEHOLDER = "__VERIFICATION_CODE__";
+
+    private final SpringTemplateEngine templateEngine;
+
+    private String confirmationBody;
+    private String[] verificationFragments;
+    private int verificationBodyLength;
+
+    @PostConstruct
+    public void init() {
+        confirmationBody = templateEngine.process(CONFIRMATION_TEMPLATE, new Context());
+
+        Context context = new Context();
+        context.setVariable("code", CODE_PLACEHOLDER);
+        String verificationBody = templateEngine.process(VERIFICATION_TEMPLATE, context);
+        verificationFragments = verificationBody.split(Pattern.quote(CODE_PLACEHOLDER), -1);
+        verificationBodyLength = verificationBody.length();
+
+        log.info("메일 템플릿 사전 렌더링 완료. [인증 코드 치환 위치: {}개]", verificationFragments.length - 1);
+    }
+
+    public String getConfirmationBody() {
+        return confirmationBody;
+    }
+
+    public String renderVerificationBody(String code) {
+        String escapedCode = HtmlUtils.htmlEscape(code);
+        StringBuilder body = new StringBuilder(verificationBodyLength + escapedCode.length());
+        body.append(verificationFragments[0]);
+        for (int i = 1; i < verificationFragments.length; i++) {
+            body.append(escapedCode).append(verificationFragments[i]);
+        }
+        return body.toString();
+    }
+}
@@ -0,0 +1,239 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmtpTransportPool {
+
+    private static final String DEFAULT_PROTOCOL = "smtp";
+
+    private final JavaMailSenderImpl mailSender;
+
+    private BlockingQueue<PooledTransport> idleTransports;
+    private Semaphore permits;
+
+    @Value("${mail.smtp-pool.enabled:false}")
+    private boolean enabled;
+
+    @Value("${mail.smtp-pool.max-size:4}")
+    private int maxSize;
+
+    @Value("${mail.smtp-pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    @Value("${mail.smtp-pool.borrow-timeout-ms:5000}")
+    private long borrowTimeoutMs;
+
+    @PostConstruct
+    public void init() {
+        idleTransports = new ArrayBlockingQueue<>(maxSize);
+        permits = new Semaphore(maxSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void send(MimeMessage message) {
+        if (!sendAll(List.of(message)).isAllSent()) {
+            throw new MailException(MailErrorCode.EMAIL_SEND_FAILURE);
+        }
+    }
+
+    public BulkSendResult sendAll(List<MimeMessage> messages) {
+        return sendAll(messages, () -> {
+        });
+    }
+
+    public BulkSendResult sendAll(List<MimeMessage> messages, Runnable beforeEachSend) {
+        List<MimeMessage> failedMessages = new ArrayList<>();
+        List<MimeMessage> deferredMessages = List.of();
+        PooledTransport transport = borrow();
+        try {
+            for (int i = 0; i < messages.size(); i++) {
+                try {
+                    beforeEachSend.run();
+                } catch (MailException e) {
+                    deferredMessages = List.copyOf(messages.subList(i, messages.size()));
+                    log.info("발송 전 확인에 실패해 남은 메시지 {}건의 발송을 미룹니다. 사유: {}",
+                            deferredMessages.size(), e.getErrorCode());
+                    break;
+                }
+                if (transport == null) {
+                    transport = reopen();
+                    if (transport == null) {
+                        failedMessages.addAll(messages.subList(i, messages.size()));
+                        break;
+                    }
+                }
+                transport = sendOne(transport, messages.get(i), failedMessages);
+            }
+        } finally {
+            release(transport);
+        }
+        return new BulkSendResult(messages.size() - failedMessages.size() - deferredMessages.size(),
+                failedMessages, deferredMessages);
+    }
+
+    @PreDestroy
+    public void close() {
+        PooledTransport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            transport.close();
+        }
+    }
+
+    Transport connect() throws MessagingException {
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : DEFAULT_PROTOCOL;
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        return transport;
+    }
+
+    private PooledTransport sendOne(PooledTransport transport, MimeMessage message, List<MimeMessage> failedMessages) {
+        if (transport.isExhausted(maxMessagesPerConnection)) {
+            transport.close();
+            transport = reopen();
+            if (transport == null) {
+                failedMessages.add(message);
+                return null;
+            }
+        }
+
+        try {
+            transport.send(message);
+            return transport;
+        } catch (SendFailedException e) {
+            log.warn("수신자가 거부되어 이메일을 건너뜁니다.", e);
+            failedMessages.add(message);
+            return transport;
+        } catch (MessagingException e) {
+            log.warn("SMTP 연결 오류. 새 연결로 한 번 재시도합니다.", e);
+            transport.close();
+        }
+
+        PooledTransport retried = reopen();
+        if (retried == null) {
+            failedMessages.add(message);
+            return null;
+        }
+        try {
+            retried.send(message);
+            return retried;
+        } catch (MessagingException retryException) {
+            log.error("SMTP 재시도 실패.", retryException);
+            failedMessages.add(message);
+            retried.close();
+            return null;
+        }
+    }
+
+    private PooledTransport borrow() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MailException(MailErrorCode.SMTP_POOL_EXHAUSTED);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailException(MailErrorCode.EMAIL_SEND_FAILURE);
+        }
+
+        PooledTransport transport = idleTransports.poll();
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+        if (transport != null) {
+            transport.close();
+        }
+
+        try {
+            return open();
+        } catch (MessagingException e) {
+            permits.release();
+            log.error("SMTP 연결 생성 실패.", e);
+            throw new MailException(MailErrorCode.EMAIL_SEND_FAILURE);
+        }
+    }
+
+    private void release(PooledTransport transport) {
+        try {
+            if (transport != null && (!transport.isConnected()
+                    || transport.isExhausted(maxMessagesPerConnection)
+                    || !idleTransports.offer(transport))) {
+                transport.close();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private PooledTransport open() throws MessagingException {
+        return new PooledTransport(connect());
+    }
+
+    private PooledTransport reopen() {
+        try {
+            return open();
+        } catch (MessagingException e) {
+            log.error("SMTP 재연결 실패.", e);
+            return null;
+        }
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private int sentCount;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void send(MimeMessage message) throws MessagingException {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            sentCount++;
+        }
+
+        private boolean isConnected() {
+            return transport.isConnected();
+        }
+
+        private boolean isExhausted(int maxMessages) {
+            return sentCount >= maxMessages;
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 중 오류를 무시합니다.", e);
+            }
+        }
+    }
+}
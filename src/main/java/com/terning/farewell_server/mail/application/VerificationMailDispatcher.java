@@ -0,0 +1,113 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.global.common.RedisService;
+import com.terning.farewell_server.mail.domain.MailDeliveryStatus;
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class VerificationMailDispatcher {
+
+    private static final String DELIVERY_STATUS_PREFIX = "verification:delivery:";
+    private static final Duration DELIVERY_STATUS_TTL = Duration.ofMinutes(5);
+
+    private final EmailService emailService;
+    private final RedisService redisService;
+    private final Executor verificationMailExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private Semaphore capacity;
+    private Timer queueWaitTimer;
+
+    @Value("${mail.verification.queue-capacity:500}")
+    private int queueCapacity;
+
+    public VerificationMailDispatcher(EmailService emailService,
+                                      RedisService redisService,
+                                      @Qualifier("verificationMailExecutor") Executor verificationMailExecutor,
+                                      MeterRegistry meterRegistry) {
+        this.emailService = emailService;
+        this.redisService = redisService;
+        this.verificationMailExecutor = verificationMailExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        capacity = new Semaphore(queueCapacity);
+        Gauge.builder("mail.verification.pending", this, VerificationMailDispatcher::getPendingCount)
+                .description("발송 대기 중이거나 발송 중인 인증 메일 수")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("mail.verification.queue.wait")
+                .description("인증 메일이 대기열에 들어간 뒤 발송을 시작하기까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public String dispatch(String email, String code) {
+        if (!capacity.tryAcquire()) {
+            log.warn("인증 메일 발송 대기열이 가득 찼습니다. [수신자: {}, 대기: {}건]", email, getPendingCount());
+            throw new MailException(MailErrorCode.VERIFICATION_QUEUE_FULL);
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        updateDeliveryStatus(requestId, MailDeliveryStatus.QUEUED);
+        long queuedAt = System.nanoTime();
+        try {
+            verificationMailExecutor.execute(() -> deliver(requestId, email, code, queuedAt));
+        } catch (RejectedExecutionException e) {
+            capacity.release();
+            updateDeliveryStatus(requestId, MailDeliveryStatus.FAILED);
+            log.warn("인증 메일 발송 스레드가 작업을 받지 못했습니다. [수신자: {}, 대기: {}건]", email, getPendingCount());
+            throw new MailException(MailErrorCode.VERIFICATION_QUEUE_FULL);
+        }
+        return requestId;
+    }
+
+    public Optional<MailDeliveryStatus> getDeliveryStatus(String requestId) {
+        return Optional.ofNullable(redisService.getData(DELIVERY_STATUS_PREFIX + requestId))
+                .map(MailDeliveryStatus::valueOf);
+    }
+
+    public int getPendingCount() {
+        return queueCapacity - capacity.availablePermits();
+    }
+
+    private void deliver(String requestId, String email, String code, long queuedAt) {
+        queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        try {
+            emailService.sendVerificationCode(email, code);
+            updateDeliveryStatus(requestId, MailDeliveryStatus.SENT);
+        } catch (Exception e) {
+            log.error("인증 메일 비동기 발송 실패. [수신자: {}]", email, e);
+            updateDeliveryStatus(requestId, MailDeliveryStatus.FAILED);
+        } finally {
+            capacity.release();
+        }
+    }
+
+    private void updateDeliveryStatus(String requestId, MailDeliveryStatus status) {
+        try {
+            redisService.setDataWithExpiration(DELIVERY_STATUS_PREFIX + requestId, status.name(), DELIVERY_STATUS_TTL);
+        } catch (Exception e) {
+            log.warn("인증 메일 발송 상태 저장 실패. [요청: {}, 상태: {}]", requestId, status, e);
+        }
+    }
+}
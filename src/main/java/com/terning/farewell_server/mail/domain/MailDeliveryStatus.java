@@ -0,0 +1,7 @@
+package com.terning.farewell_server.mail.domain;
+
+public enum MailDeliveryStatus {
+    QUEUED,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,84 @@
+package com.terning.farewell_server.mail.domain;
+
+import com.terning.farewell_server.global.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "mail_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_mail_outbox_recipient_type", columnNames = {"recipient", "mail_type"}),
+        indexes = @Index(name = "idx_mail_outbox_dispatch", columnList = "status, next_attempt_at")
+)
+public class MailOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mail_type", nullable = false)
+    private MailType mailType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private MailOutbox(String recipient, MailType mailType) {
+        this.recipient = recipient;
+        this.mailType = mailType;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static MailOutbox confirmation(String recipient) {
+        return new MailOutbox(recipient, MailType.CONFIRMATION);
+    }
+
+    public void lease(LocalDateTime leaseExpiresAt) {
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    public void releaseLease(LocalDateTime retryAt) {
+        this.nextAttemptAt = retryAt;
+    }
+
+    public void markSent() {
+        this.status = MailOutboxStatus.SENT;
+    }
+
+    public void markFailed(LocalDateTime retryAt, int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.status = MailOutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = retryAt;
+    }
+}
@@ -0,0 +1,25 @@
+package com.terning.farewell_server.mail.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    String SKIP_LOCKED = "-2";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT m FROM MailOutbox m WHERE m.status = :status AND m.nextAttemptAt <= :now ORDER BY m.id")
+    List<MailOutbox> findDispatchable(@Param("status") MailOutboxStatus status,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+}
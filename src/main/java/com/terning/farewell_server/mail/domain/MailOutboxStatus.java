@@ -0,0 +1,7 @@
+package com.terning.farewell_server.mail.domain;
+
+public enum MailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,5 @@
+package com.terning.farewell_server.mail.domain;
+
+public enum MailType {
+    CONFIRMATION
+}
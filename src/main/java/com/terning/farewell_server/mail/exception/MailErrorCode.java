@@ -8,7 +8,10 @@ import org.springframework.http.HttpStatus;
 @Getter
 @RequiredArgsConstructor
 public enum MailErrorCode implements ErrorCode {
-    EMAIL_SEND_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "이메일 전송에 실패했습니다.");
+    EMAIL_SEND_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "이메일 전송에 실패했습니다."),
+    SMTP_POOL_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "메일 발송 연결이 모두 사용 중입니다. 잠시 후 다시 시도해주세요."),
+    MAIL_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    VERIFICATION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "인증 메일 발송 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
 
     private static final String PREFIX = "[MAIL ERROR] ";
 
@@ -1,24 +1,30 @@
 package com.terning.farewell_server.application.application;
 
 import com.terning.farewell_server.application.domain.Application;
+import com.terning.farewell_server.application.domain.ApplicationJdbcRepository;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
 import com.terning.farewell_server.application.domain.ApplicationRepository;
 import com.terning.farewell_server.application.domain.ApplicationStatus;
 import com.terning.farewell_server.application.exception.ApplicationErrorCode;
 import com.terning.farewell_server.application.exception.ApplicationException;
+import com.terning.farewell_server.mail.application.MailOutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,12 +36,28 @@ class ApplicationServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationJdbcRepository applicationJdbcRepository;
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    private SimpleMeterRegistry meterRegistry;
     private ApplicationService applicationService;
 
     @Captor
     private ArgumentCaptor<Application> applicationCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<String>> recipientsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        applicationService = new ApplicationService(applicationRepository, applicationJdbcRepository, mailOutboxService, meterRegistry);
+        applicationService.init();
+    }
+
     @Test
     @DisplayName("신규 이메일로 신청 시, 전달된 상태와 함께 신청 내역이 성공적으로 저장된다.")
     void saveApplication_With_New_Email() {
@@ -52,6 +74,37 @@ class ApplicationServiceTest {
         Application savedApplication = applicationCaptor.getValue();
         assertThat(savedApplication.getEmail()).isEqualTo(newEmail);
         assertThat(savedApplication.getStatus()).isEqualTo(status);
+        verify(mailOutboxService, times(1)).enqueueConfirmations(List.of(newEmail));
+    }
+
+    @Test
+    @DisplayName("신청 저장 시, 중복 확인과 저장 시간을 단계별로 기록한다.")
+    void saveApplication_shouldRecordStepLatency() {
+        // given
+        String newEmail = "new_user@example.com";
+        when(applicationRepository.existsByEmail(newEmail)).thenReturn(false);
+
+        // when
+        applicationService.saveApplication(newEmail, ApplicationStatus.SUCCESS);
+
+        // then
+        assertThat(meterRegistry.get("application.save").tag("step", "exists-check").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("application.save").tag("step", "insert").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마감된 신청은 확정 메일을 아웃박스에 적재하지 않는다.")
+    void saveApplication_With_Failure_Status() {
+        // given
+        String newEmail = "new_user@example.com";
+        when(applicationRepository.existsByEmail(newEmail)).thenReturn(false);
+
+        // when
+        applicationService.saveApplication(newEmail, ApplicationStatus.FAILURE);
+
+        // then
+        verify(applicationRepository, times(1)).save(any(Application.class));
+        verify(mailOutboxService, never()).enqueueConfirmations(anyList());
     }
 
     @Test
@@ -67,6 +120,70 @@ class ApplicationServiceTest {
 
         // then
         verify(applicationRepository, never()).save(any(Application.class));
+        verify(mailOutboxService, never()).enqueueConfirmations(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시, 중복을 무시하고 실제로 저장된 신규 신청 내역만 반환한다.")
+    void saveApplications_Returns_Only_Inserted_Outcomes() {
+        // given
+        ApplicationOutcome newOutcome = ApplicationOutcome.of("new_user@example.com", ApplicationStatus.SUCCESS);
+        ApplicationOutcome existingOutcome = ApplicationOutcome.of("existing_user@example.com", ApplicationStatus.FAILURE);
+        List<ApplicationOutcome> outcomes = List.of(newOutcome, existingOutcome);
+        when(applicationJdbcRepository.insertIgnoringDuplicates(outcomes)).thenReturn(List.of(newOutcome));
+
+        // when
+        List<ApplicationOutcome> savedOutcomes = applicationService.saveApplications(outcomes);
+
+        // then
+        assertThat(savedOutcomes).containsExactly(newOutcome);
+        verify(applicationRepository, never()).save(any(Application.class));
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시, 새로 저장된 당첨자만 확정 메일 아웃박스에 함께 적재한다.")
+    void saveApplications_Enqueues_Confirmation_For_New_Winners() {
+        // given
+        ApplicationOutcome winner = ApplicationOutcome.of("winner@example.com", ApplicationStatus.SUCCESS);
+        ApplicationOutcome loser = ApplicationOutcome.of("loser@example.com", ApplicationStatus.FAILURE);
+        List<ApplicationOutcome> outcomes = List.of(winner, loser);
+        when(applicationJdbcRepository.insertIgnoringDuplicates(outcomes)).thenReturn(outcomes);
+
+        // when
+        applicationService.saveApplications(outcomes);
+
+        // then
+        verify(mailOutboxService, times(1)).enqueueConfirmations(recipientsCaptor.capture());
+        assertThat(recipientsCaptor.getValue()).containsExactly("winner@example.com");
+    }
+
+    @Test
+    @DisplayName("빈 목록을 일괄 저장하면, DB를 호출하지 않는다.")
+    void saveApplications_With_Empty_List() {
+        // when
+        List<ApplicationOutcome> savedOutcomes = applicationService.saveApplications(List.of());
+
+        // then
+        assertThat(savedOutcomes).isEmpty();
+        verify(applicationJdbcRepository, never()).insertIgnoringDuplicates(anyList());
+    }
+
+    @Test
+    @DisplayName("당첨자로 복구하면, FAILURE로 저장된 신청만 SUCCESS로 바꾸고 확정 메일을 적재한다.")
+    void promoteToWinners_shouldPromoteOnlyFailedApplications() {
+        // given
+        Application failed = Application.from("failed@example.com", ApplicationStatus.FAILURE);
+        Application succeeded = Application.from("succeeded@example.com", ApplicationStatus.SUCCESS);
+        List<String> emails = List.of("failed@example.com", "succeeded@example.com");
+        when(applicationRepository.findAllByEmailIn(emails)).thenReturn(List.of(failed, succeeded));
+
+        // when
+        List<String> promoted = applicationService.promoteToWinners(emails);
+
+        // then
+        assertThat(promoted).containsExactly("failed@example.com");
+        assertThat(failed.getStatus()).isEqualTo(ApplicationStatus.SUCCESS);
+        verify(mailOutboxService, times(1)).enqueueConfirmations(List.of("failed@example.com"));
     }
 
     @Test
@@ -0,0 +1,62 @@
+package com.terning.farewell_server.application.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ApplicationJdbcRepository.class)
+class ApplicationJdbcRepositoryIntegrationTest {
+
+    @Autowired
+    private ApplicationJdbcRepository applicationJdbcRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    @DisplayName("일괄 저장 시, 이미 존재하는 이메일은 무시하고 새로 저장된 신청 내역만 반환한다.")
+    void insertIgnoringDuplicates_should_return_only_new_rows() {
+        // given
+        applicationRepository.saveAndFlush(Application.from("existing@example.com", ApplicationStatus.FAILURE));
+        ApplicationOutcome newOutcome = ApplicationOutcome.of("new@example.com", ApplicationStatus.SUCCESS);
+        ApplicationOutcome duplicateOutcome = ApplicationOutcome.of("existing@example.com", ApplicationStatus.SUCCESS);
+
+        // when
+        List<ApplicationOutcome> inserted = applicationJdbcRepository.insertIgnoringDuplicates(
+                List.of(newOutcome, duplicateOutcome));
+
+        // then
+        assertThat(inserted).containsExactly(newOutcome);
+        assertThat(applicationRepository.findByEmail("new@example.com"))
+                .hasValueSatisfying(application -> assertThat(application.getStatus()).isEqualTo(ApplicationStatus.SUCCESS));
+        assertThat(applicationRepository.findByEmail("existing@example.com"))
+                .hasValueSatisfying(application -> assertThat(application.getStatus()).isEqualTo(ApplicationStatus.FAILURE));
+    }
+
+    @Test
+    @DisplayName("한 번에 넘긴 결과 안에 같은 이메일이 있으면, 먼저 온 결과만 저장한다.")
+    void insertIgnoringDuplicates_should_keep_first_outcome_per_email() {
+        // given
+        ApplicationOutcome first = ApplicationOutcome.of("same@example.com", ApplicationStatus.SUCCESS);
+        ApplicationOutcome second = ApplicationOutcome.of("same@example.com", ApplicationStatus.FAILURE);
+
+        // when
+        List<ApplicationOutcome> inserted = applicationJdbcRepository.insertIgnoringDuplicates(List.of(first, second));
+
+        // then
+        assertThat(inserted).containsExactly(first);
+        assertThat(applicationRepository.findByEmail("same@example.com"))
+                .hasValueSatisfying(application -> assertThat(application.getStatus()).isEqualTo(ApplicationStatus.SUCCESS));
+    }
+}
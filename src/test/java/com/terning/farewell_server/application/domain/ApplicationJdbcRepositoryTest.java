@@ -0,0 +1,86 @@
+package com.terning.farewell_server.application.domain;
+
+import com.terning.farewell_server.application.exception.ApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationJdbcRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ApplicationJdbcRepository applicationJdbcRepository;
+
+    private static final ApplicationOutcome FIRST = ApplicationOutcome.of("first@example.com", ApplicationStatus.SUCCESS);
+    private static final ApplicationOutcome SECOND = ApplicationOutcome.of("second@example.com", ApplicationStatus.FAILURE);
+    private static final ApplicationOutcome EXISTING = ApplicationOutcome.of("existing@example.com", ApplicationStatus.SUCCESS);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(applicationJdbcRepository, "batchSize", 500);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 이메일을 제외한 신청을 여러 행 INSERT 한 번으로 저장한다.")
+    void insertIgnoringDuplicates_shouldInsertNewRowsInOneStatement() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of(EXISTING.email()));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(2);
+
+        // when
+        List<ApplicationOutcome> inserted = applicationJdbcRepository.insertIgnoringDuplicates(List.of(FIRST, EXISTING, SECOND));
+
+        // then
+        assertThat(inserted).containsExactly(FIRST, SECOND);
+        verify(jdbcTemplate, times(1)).update(
+                eq("INSERT IGNORE INTO application (email, status, created_at, updated_at) VALUES (?, ?, ?, ?), (?, ?, ?, ?)"),
+                any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("드라이버가 행별 결과 대신 SUCCESS_NO_INFO(-2)를 돌려주면, 새로 저장된 행을 추정하지 않고 예외를 던진다.")
+    void insertIgnoringDuplicates_whenDriverReturnsSuccessNoInfo_thenThrow() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(Object[].class))).thenReturn(Statement.SUCCESS_NO_INFO);
+
+        // when & then
+        assertThatThrownBy(() -> applicationJdbcRepository.insertIgnoringDuplicates(List.of(FIRST, SECOND)))
+                .isInstanceOf(ApplicationException.class);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 요청이 같은 이메일을 먼저 저장해 INSERT 건수가 모자라면, 예외를 던져 배치를 재시도하게 한다.")
+    void insertIgnoringDuplicates_whenConcurrentInsertIgnored_thenThrow() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> applicationJdbcRepository.insertIgnoringDuplicates(List.of(FIRST, SECOND)))
+                .isInstanceOf(ApplicationException.class);
+    }
+}
@@ -7,8 +7,10 @@ import com.terning.farewell_server.auth.dto.request.VerifyCodeRequest;
 import com.terning.farewell_server.auth.exception.AuthErrorCode;
 import com.terning.farewell_server.auth.exception.AuthException;
 import com.terning.farewell_server.auth.jwt.JwtUtil;
+import com.terning.farewell_server.auth.success.AuthSuccessCode;
 import com.terning.farewell_server.global.error.GlobalErrorCode;
 import com.terning.farewell_server.global.success.GlobalSuccessCode;
+import com.terning.farewell_server.mail.domain.MailDeliveryStatus;
 import com.terning.farewell_server.mail.exception.MailErrorCode;
 import com.terning.farewell_server.mail.exception.MailException;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +25,7 @@ import org.springframework.test.web.servlet.ResultActions;
 
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -45,6 +48,8 @@ class AuthControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    private static final String REQUEST_ID = "5f0c6e1a-0000-4000-8000-000000000000";
+
     @Test
     @DisplayName("유효한 이메일로 인증 코드 발송을 요청하면 표준 성공 응답(200 OK)을 반환한다.")
     void sendVerificationCode_Success() throws Exception {
@@ -112,6 +117,65 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value(MailErrorCode.EMAIL_SEND_FAILURE.getMessage()));
     }
 
+    @Test
+    @DisplayName("비동기 인증 코드 발송을 요청하면 발송을 기다리지 않고 요청 ID와 함께 202 Accepted를 반환한다.")
+    void sendVerificationCodeAsync_Success() throws Exception {
+        // given
+        String requestBody = objectMapper.writeValueAsString(new EmailRequest("test@example.com"));
+        when(authService.sendVerificationCodeAsync("test@example.com")).thenReturn(REQUEST_ID);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/api/auth/send-verification-code/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value(AuthSuccessCode.VERIFICATION_CODE_QUEUED.getMessage()))
+                .andExpect(jsonPath("$.result.requestId").value(REQUEST_ID));
+    }
+
+    @Test
+    @DisplayName("발송 대기열이 가득 차면 503 Service Unavailable을 반환한다.")
+    void sendVerificationCodeAsync_Fail_QueueFull() throws Exception {
+        // given
+        String requestBody = objectMapper.writeValueAsString(new EmailRequest("test@example.com"));
+        doThrow(new MailException(MailErrorCode.VERIFICATION_QUEUE_FULL))
+                .when(authService).sendVerificationCodeAsync("test@example.com");
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/api/auth/send-verification-code/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value(MailErrorCode.VERIFICATION_QUEUE_FULL.getMessage()));
+    }
+
+    @Test
+    @DisplayName("요청 ID로 인증 코드 발송 상태를 조회하면 현재 상태를 반환한다.")
+    void getVerificationDeliveryStatus_Success() throws Exception {
+        // given
+        when(authService.getVerificationDeliveryStatus(REQUEST_ID)).thenReturn(MailDeliveryStatus.SENT);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/api/auth/verification-code/delivery-status").param("requestId", REQUEST_ID)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.status").value(MailDeliveryStatus.SENT.name()));
+    }
+
     @Test
     @DisplayName("유효한 이메일과 코드로 검증 요청 시, 토큰과 함께 표준 성공 응답(200 OK)을 반환한다.")
     void verifyCode_Success() throws Exception {
@@ -4,6 +4,10 @@ import com.terning.farewell_server.auth.exception.AuthErrorCode;
 import com.terning.farewell_server.auth.exception.AuthException;
 import com.terning.farewell_server.auth.jwt.JwtUtil;
 import com.terning.farewell_server.mail.application.EmailService;
+import com.terning.farewell_server.mail.application.VerificationMailDispatcher;
+import com.terning.farewell_server.mail.domain.MailDeliveryStatus;
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +16,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.anyString;
@@ -36,12 +42,16 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private VerificationMailDispatcher verificationMailDispatcher;
+
     @InjectMocks
     private AuthService authService;
 
     private static final String EMAIL = "test@example.com";
     private static final String MOCK_CODE = "123456";
     private static final String MOCK_TOKEN = "mock.jwt.token";
+    private static final String REQUEST_ID = "5f0c6e1a-0000-4000-8000-000000000000";
 
     @Test
     @DisplayName("인증 코드 발송 요청 시, 매니저와 이메일 서비스가 올바른 순서로 호출되어야 한다.")
@@ -59,6 +69,60 @@ class AuthServiceTest {
         inOrder.verify(emailService).sendVerificationCode(EMAIL, MOCK_CODE);
     }
 
+    @Test
+    @DisplayName("비동기 인증 코드 발송 요청 시, 코드를 저장한 뒤 SMTP 발송 없이 대기열에 넣는다.")
+    void sendVerificationCodeAsync_should_queue_mail_after_issuing_code() {
+        // given
+        when(verificationCodeManager.issueCode(EMAIL)).thenReturn(MOCK_CODE);
+        when(verificationMailDispatcher.dispatch(EMAIL, MOCK_CODE)).thenReturn(REQUEST_ID);
+
+        // when
+        String requestId = authService.sendVerificationCodeAsync(EMAIL);
+
+        // then
+        assertThat(requestId).isEqualTo(REQUEST_ID);
+        InOrder inOrder = inOrder(verificationCodeManager, verificationMailDispatcher);
+        inOrder.verify(verificationCodeManager).issueCode(EMAIL);
+        inOrder.verify(verificationMailDispatcher).dispatch(EMAIL, MOCK_CODE);
+        verify(emailService, never()).sendVerificationCode(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("발송 대기열이 가득 차면, VERIFICATION_QUEUE_FULL 예외가 그대로 전달된다.")
+    void sendVerificationCodeAsync_when_queue_full_then_throw() {
+        // given
+        when(verificationCodeManager.issueCode(EMAIL)).thenReturn(MOCK_CODE);
+        doThrow(new MailException(MailErrorCode.VERIFICATION_QUEUE_FULL))
+                .when(verificationMailDispatcher).dispatch(EMAIL, MOCK_CODE);
+
+        // when & then
+        assertThatThrownBy(() -> authService.sendVerificationCodeAsync(EMAIL))
+                .isInstanceOf(MailException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.VERIFICATION_QUEUE_FULL);
+    }
+
+    @Test
+    @DisplayName("발송 상태가 없으면, VERIFICATION_DELIVERY_NOT_FOUND 예외를 던진다.")
+    void getVerificationDeliveryStatus_when_not_found_then_throw() {
+        // given
+        when(verificationMailDispatcher.getDeliveryStatus(REQUEST_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> authService.getVerificationDeliveryStatus(REQUEST_ID))
+                .isInstanceOf(AuthException.class)
+                .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.VERIFICATION_DELIVERY_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("발송 상태가 있으면, 저장된 상태를 반환한다.")
+    void getVerificationDeliveryStatus_Success() {
+        // given
+        when(verificationMailDispatcher.getDeliveryStatus(REQUEST_ID)).thenReturn(Optional.of(MailDeliveryStatus.SENT));
+
+        // when & then
+        assertThat(authService.getVerificationDeliveryStatus(REQUEST_ID)).isEqualTo(MailDeliveryStatus.SENT);
+    }
+
     @Test
     @DisplayName("인증 코드 검증 성공 시, 임시 토큰을 반환한다.")
     void verifyEmailCode_Success() {
@@ -0,0 +1,89 @@
+package com.terning.farewell_server.auth.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerificationCodeGeneratorTest {
+
+    private VerificationCodeGenerator verificationCodeGenerator;
+
+    @BeforeEach
+    void setUp() {
+        verificationCodeGenerator = new VerificationCodeGenerator();
+        ReflectionTestUtils.setField(verificationCodeGenerator, "stripeCount", 2);
+        ReflectionTestUtils.setField(verificationCodeGenerator, "pregenerateEnabled", true);
+        ReflectionTestUtils.setField(verificationCodeGenerator, "ringSize", 4);
+        verificationCodeGenerator.init();
+    }
+
+    @Test
+    @DisplayName("생성된 인증 코드는 항상 6자리 숫자다.")
+    void generate_shouldReturnSixDigitCode() {
+        // when & then
+        IntStream.range(0, 1000).forEach(i ->
+                assertThat(verificationCodeGenerator.generate()).matches("[1-9]\\d{5}"));
+    }
+
+    @Test
+    @DisplayName("미리 만들어 둔 코드를 모두 쓰면, 즉시 새로 생성하고 다음 보충 때 다시 채운다.")
+    void generate_whenRingDrained_thenFallBackAndRefill() {
+        // given
+        assertThat(pregeneratedCodes()).hasSize(4);
+
+        // when
+        IntStream.range(0, 6).forEach(i -> verificationCodeGenerator.generate());
+
+        // then
+        assertThat(pregeneratedCodes()).isEmpty();
+        verificationCodeGenerator.refill();
+        assertThat(pregeneratedCodes()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 꺼내도, 미리 만들어 둔 코드는 한 번씩만 사용된다.")
+    void generate_concurrently_shouldHandOutEachPregeneratedCodeOnce() throws Exception {
+        // given
+        ReflectionTestUtils.setField(verificationCodeGenerator, "ringSize", 4096);
+        verificationCodeGenerator.init();
+        List<String> pregenerated = pregeneratedCodes();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        Callable<List<String>> task = () -> IntStream.range(0, 512).mapToObj(i -> verificationCodeGenerator.generate()).toList();
+
+        // when
+        List<Future<List<String>>> futures = executorService.invokeAll(IntStream.range(0, 8).mapToObj(i -> task).toList());
+        executorService.shutdown();
+
+        // then
+        List<String> issued = futures.stream().flatMap(future -> {
+            try {
+                return future.get().stream();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+        assertThat(issued).hasSize(4096);
+        assertThat(issued).containsExactlyInAnyOrderElementsOf(pregenerated);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> pregeneratedCodes() {
+        AtomicReferenceArray<String> ring = (AtomicReferenceArray<String>) ReflectionTestUtils.getField(verificationCodeGenerator, "ring");
+        return IntStream.range(0, ring.length())
+                .mapToObj(ring::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -2,18 +2,23 @@ package com.terning.farewell_server.auth.application;
 
 import com.terning.farewell_server.auth.exception.AuthErrorCode;
 import com.terning.farewell_server.auth.exception.AuthException;
+import com.terning.farewell_server.global.common.CompareAndDeleteResult;
 import com.terning.farewell_server.global.common.RedisService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,16 +29,31 @@ class VerificationCodeManagerTest {
     @Mock
     private RedisService redisService;
 
+    @Mock
+    private VerificationCodeGenerator verificationCodeGenerator;
+
     @InjectMocks
     private VerificationCodeManager verificationCodeManager;
 
     private static final String EMAIL = "test@example.com";
     private static final String VERIFICATION_CODE_PREFIX = "verification:";
     private static final Duration VERIFICATION_CODE_TTL = Duration.ofMinutes(5);
+    private static final String ATTEMPTS_KEY = "verification:attempts:" + EMAIL;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration LOCKOUT = Duration.ofMinutes(10);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(verificationCodeManager, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(verificationCodeManager, "lockoutMs", LOCKOUT.toMillis());
+    }
 
     @Test
     @DisplayName("인증 코드 발급 시 Redis에 올바른 값으로 저장되어야 한다")
     void issueCode_should_save_code_to_redis() {
+        // given
+        when(verificationCodeGenerator.generate()).thenReturn("482913");
+
         // when
         String code = verificationCodeManager.issueCode(EMAIL);
 
@@ -49,24 +69,26 @@ class VerificationCodeManagerTest {
     }
 
     @Test
-    @DisplayName("유효한 코드로 검증 요청 시 성공하고, Redis에서 코드가 삭제되어야 한다")
+    @DisplayName("유효한 코드로 검증 요청 시 성공하고, 한 번의 Redis 호출로 코드가 삭제되어야 한다")
     void verifyCode_with_valid_code_should_succeed_and_delete_code() {
         // given
         String validCode = "123456";
-        when(redisService.getData(VERIFICATION_CODE_PREFIX + EMAIL)).thenReturn(validCode);
+        when(redisService.compareAndDelete(VERIFICATION_CODE_PREFIX + EMAIL, validCode, ATTEMPTS_KEY, MAX_ATTEMPTS, LOCKOUT))
+                .thenReturn(CompareAndDeleteResult.MATCHED);
 
         // when & then
         assertThatNoException().isThrownBy(() -> verificationCodeManager.verifyCode(EMAIL, validCode));
-        verify(redisService, times(1)).deleteData(VERIFICATION_CODE_PREFIX + EMAIL);
+        verify(redisService, never()).getData(VERIFICATION_CODE_PREFIX + EMAIL);
+        verify(redisService, never()).deleteData(VERIFICATION_CODE_PREFIX + EMAIL);
     }
 
     @Test
     @DisplayName("유효하지 않은 코드로 검증 요청 시 AuthException이 발생해야 한다")
     void verifyCode_with_invalid_code_should_throw_AuthException() {
         // given
-        String storedCode = "123456";
         String invalidCode = "654321";
-        when(redisService.getData(VERIFICATION_CODE_PREFIX + EMAIL)).thenReturn(storedCode);
+        when(redisService.compareAndDelete(VERIFICATION_CODE_PREFIX + EMAIL, invalidCode, ATTEMPTS_KEY, MAX_ATTEMPTS, LOCKOUT))
+                .thenReturn(CompareAndDeleteResult.MISMATCHED);
 
         // when & then
         assertThatThrownBy(() -> verificationCodeManager.verifyCode(EMAIL, invalidCode))
@@ -78,12 +100,27 @@ class VerificationCodeManagerTest {
     @DisplayName("Redis에 코드가 없는 경우 AuthException이 발생해야 한다")
     void verifyCode_with_no_code_in_redis_should_throw_AuthException() {
         // given
-        when(redisService.getData(VERIFICATION_CODE_PREFIX + EMAIL)).thenReturn(null);
         String codeToVerify = "123456";
+        when(redisService.compareAndDelete(VERIFICATION_CODE_PREFIX + EMAIL, codeToVerify, ATTEMPTS_KEY, MAX_ATTEMPTS, LOCKOUT))
+                .thenReturn(CompareAndDeleteResult.NOT_FOUND);
 
         // when & then
         assertThatThrownBy(() -> verificationCodeManager.verifyCode(EMAIL, codeToVerify))
                 .isInstanceOf(AuthException.class)
                 .hasMessageContaining(AuthErrorCode.INVALID_VERIFICATION_CODE.getMessage());
     }
+
+    @Test
+    @DisplayName("시도 횟수를 초과해 잠긴 경우 VERIFICATION_ATTEMPTS_EXCEEDED 예외가 발생해야 한다")
+    void verifyCode_when_locked_should_throw_attempts_exceeded() {
+        // given
+        String codeToVerify = "123456";
+        when(redisService.compareAndDelete(VERIFICATION_CODE_PREFIX + EMAIL, codeToVerify, ATTEMPTS_KEY, MAX_ATTEMPTS, LOCKOUT))
+                .thenReturn(CompareAndDeleteResult.LOCKED);
+
+        // when & then
+        assertThatThrownBy(() -> verificationCodeManager.verifyCode(EMAIL, codeToVerify))
+                .isInstanceOf(AuthException.class)
+                .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.VERIFICATION_ATTEMPTS_EXCEEDED);
+    }
 }
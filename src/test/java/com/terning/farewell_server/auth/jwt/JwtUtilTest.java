@@ -10,6 +10,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -26,6 +28,7 @@ class JwtUtilTest {
         jwtUtil = new JwtUtil();
         ReflectionTestUtils.setField(jwtUtil, "secretKeyString", TEST_SECRET_KEY);
         ReflectionTestUtils.setField(jwtUtil, "expirationTime", ONE_HOUR_EXPIRATION);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
         jwtUtil.init();
     }
 
@@ -102,6 +105,46 @@ class JwtUtilTest {
         assertThat(authentication.getName()).isEqualTo(EMAIL);
     }
 
+    @Test
+    @DisplayName("유효한 토큰은 한 번의 파싱으로 검증과 Authentication 생성을 함께 수행한다.")
+    void authenticate_Success() {
+        // given
+        String token = jwtUtil.generateTemporaryToken(EMAIL);
+
+        // when
+        Optional<Authentication> authentication = jwtUtil.authenticate(token);
+
+        // then
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getName()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰으로 authenticate 호출 시 빈 결과를 반환한다.")
+    void authenticate_Fail_InvalidToken() {
+        // when
+        Optional<Authentication> authentication = jwtUtil.authenticate("this.is.invalid");
+
+        // then
+        assertThat(authentication).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 번 검증된 토큰은 캐시에서 인증되어 다시 서명을 검증하지 않는다.")
+    void authenticate_whenCached_thenSkipParsing() {
+        // given
+        String token = jwtUtil.generateTemporaryToken(EMAIL);
+        jwtUtil.authenticate(token);
+        ReflectionTestUtils.setField(jwtUtil, "jwtParser", null);
+
+        // when
+        Optional<Authentication> authentication = jwtUtil.authenticate(token);
+
+        // then
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getName()).isEqualTo(EMAIL);
+    }
+
     @Test
     @DisplayName("'Bearer ' 접두사가 있는 헤더에서 토큰을 성공적으로 추출한다.")
     void resolveToken_Success() {
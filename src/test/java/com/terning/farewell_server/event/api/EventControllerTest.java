@@ -14,17 +14,24 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EventController.class)
@@ -123,4 +130,30 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.message").value(EventErrorCode.APPLICATION_NOT_FOUND.getMessage()))
                 .andDo(print());
     }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("결과 대기 API는 비동기로 처리되고, 결과가 전달되면 상태를 응답한다.")
+    void awaitApplicationResult_Success() throws Exception {
+        // given
+        StatusResponse mockResponse = new StatusResponse("SUCCESS", "신청 결과: SUCCESS");
+        when(eventService.awaitApplicationResult(eq("test@example.com"), any())).thenAnswer(invocation -> {
+            Consumer<StatusResponse> onResult = invocation.getArgument(1);
+            onResult.accept(mockResponse);
+            return (Runnable) () -> {
+            };
+        });
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/event/status/await"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(EventSuccessCode.GET_EVENT_STATUS_SUCCESS.getStatus().value()))
+                .andExpect(jsonPath("$.result.status").value("SUCCESS"))
+                .andDo(print());
+    }
 }
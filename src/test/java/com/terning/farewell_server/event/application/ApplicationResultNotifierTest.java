@@ -0,0 +1,129 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationResultNotifierTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @InjectMocks
+    private ApplicationResultNotifier applicationResultNotifier;
+
+    private static final String RESULT_CHANNEL = "event:application:result:test";
+    private static final String EMAIL = "test@example.com";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(applicationResultNotifier, "resultChannel", RESULT_CHANNEL);
+    }
+
+    @Test
+    @DisplayName("신청 결과는 상태와 이메일을 담아 Redis 채널로 전파된다.")
+    void publish_shouldSendToChannel() {
+        // when
+        applicationResultNotifier.publish(EMAIL, ApplicationStatus.SUCCESS);
+
+        // then
+        verify(redisTemplate, times(1)).convertAndSend(RESULT_CHANNEL, "SUCCESS:" + EMAIL);
+    }
+
+    @Test
+    @DisplayName("배치 결과는 하나의 파이프라인으로 묶어 Redis 채널로 전파된다.")
+    @SuppressWarnings("unchecked")
+    void publishAll_shouldPipelineMessages() {
+        // given
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, RedisCallback.class).doInRedis(connection);
+            return List.of();
+        });
+
+        // when
+        applicationResultNotifier.publishAll(List.of(
+                ApplicationOutcome.of(EMAIL, ApplicationStatus.SUCCESS),
+                ApplicationOutcome.of("other@example.com", ApplicationStatus.FAILURE)
+        ));
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection, times(1)).publish(RESULT_CHANNEL, "SUCCESS:" + EMAIL);
+        verify(connection, times(1)).publish(RESULT_CHANNEL, "FAILURE:other@example.com");
+    }
+
+    @Test
+    @DisplayName("전파할 배치 결과가 없으면 Redis를 호출하지 않는다.")
+    void publishAll_withEmptyOutcomes_shouldNotCallRedis() {
+        // when
+        applicationResultNotifier.publishAll(List.of());
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("결과 메시지를 수신하면 해당 이메일의 대기 요청을 모두 완료하고 등록을 해제한다.")
+    void onMessage_shouldCompleteWaitersForEmail() {
+        // given
+        List<ApplicationStatus> received = new ArrayList<>();
+        applicationResultNotifier.subscribe(EMAIL, received::add);
+        applicationResultNotifier.subscribe("other@example.com", received::add);
+
+        // when
+        applicationResultNotifier.onMessage(message("FAILURE:" + EMAIL), null);
+
+        // then
+        assertThat(received).containsExactly(ApplicationStatus.FAILURE);
+        assertThat(applicationResultNotifier.getWaitingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독을 해제한 대기 요청은 결과를 받지 않는다.")
+    void subscribe_whenUnsubscribed_thenNotNotified() {
+        // given
+        List<ApplicationStatus> received = new ArrayList<>();
+        Runnable unsubscribe = applicationResultNotifier.subscribe(EMAIL, received::add);
+
+        // when
+        unsubscribe.run();
+        applicationResultNotifier.onMessage(message("SUCCESS:" + EMAIL), null);
+
+        // then
+        assertThat(received).isEmpty();
+        assertThat(applicationResultNotifier.getWaitingCount()).isZero();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(RESULT_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,174 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.global.common.RedisScriptRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationStatusCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SoldOutGate soldOutGate;
+
+    @Mock
+    private RedisScriptRegistry redisScriptRegistry;
+
+    @InjectMocks
+    private ApplicationStatusCache applicationStatusCache;
+
+    private static final String STATUS_KEY = "event:application:status:test";
+    private static final String EMAIL = "test@example.com";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(applicationStatusCache, "statusKey", STATUS_KEY);
+        ReflectionTestUtils.setField(applicationStatusCache, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(applicationStatusCache, "pendingTtlMs", 1000L);
+        ReflectionTestUtils.setField(applicationStatusCache, "ttlMs", 60000L);
+        when(redisScriptRegistry.register(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> new DefaultRedisScript<>(invocation.getArgument(1), invocation.getArgument(2)));
+        applicationStatusCache.init();
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("Redis에서 읽은 결과는 로컬 캐시에 적재되어 다음 조회 시 Redis를 호출하지 않는다.")
+    void get_shouldPromoteRedisHitToLocalCache() {
+        // given
+        when(hashOperations.get(STATUS_KEY, EMAIL)).thenReturn(ApplicationStatus.SUCCESS.name());
+
+        // when
+        applicationStatusCache.get(EMAIL);
+        var second = applicationStatusCache.get(EMAIL);
+
+        // then
+        assertThat(second).contains(ApplicationStatus.SUCCESS);
+        verify(hashOperations, times(1)).get(STATUS_KEY, EMAIL);
+    }
+
+    @Test
+    @DisplayName("먼저 기록된 결과가 있으면 나중의 결과로 덮어쓰지 않는다.")
+    void put_whenAlreadyStored_thenKeepFirstDecision() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(STATUS_KEY)),
+                eq(EMAIL), eq(ApplicationStatus.FAILURE.name()), eq("60000"))).thenReturn(0L);
+        when(hashOperations.get(STATUS_KEY, EMAIL)).thenReturn(ApplicationStatus.SUCCESS.name());
+
+        // when
+        applicationStatusCache.put(EMAIL, ApplicationStatus.FAILURE);
+
+        // then
+        assertThat(applicationStatusCache.get(EMAIL)).contains(ApplicationStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("결과가 기록되면 처리 대기 상태가 해제된다.")
+    void put_shouldClearPendingState() {
+        // given
+        applicationStatusCache.markPending(EMAIL);
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(STATUS_KEY)),
+                eq(EMAIL), eq(ApplicationStatus.SUCCESS.name()), eq("60000"))).thenReturn(1L);
+
+        // when
+        applicationStatusCache.put(EMAIL, ApplicationStatus.SUCCESS);
+
+        // then
+        assertThat(applicationStatusCache.isPending(EMAIL)).isFalse();
+        assertThat(applicationStatusCache.get(EMAIL)).contains(ApplicationStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("결과를 기록하면 상태 해시에 만료 시간을 걸고, 갱신 주기 안에서는 다시 걸지 않는다.")
+    void put_shouldSetExpiryOnStatusHash() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // when
+        applicationStatusCache.put(EMAIL, ApplicationStatus.SUCCESS);
+        applicationStatusCache.put("other@example.com", ApplicationStatus.FAILURE);
+
+        // then
+        verify(redisTemplate, times(1)).expire(STATUS_KEY, Duration.ofMillis(60000L));
+    }
+
+    @Test
+    @DisplayName("결과를 기록하는 스크립트에 만료 시간을 함께 넘겨, 새로 만든 상태 해시에도 바로 만료 시간이 걸린다.")
+    void put_shouldPassTtlToWriteScript() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // when
+        applicationStatusCache.put(EMAIL, ApplicationStatus.SUCCESS);
+
+        // then
+        verify(redisScriptRegistry, times(1)).execute(any(RedisScript.class), eq(List.of(STATUS_KEY)),
+                eq(EMAIL), eq(ApplicationStatus.SUCCESS.name()), eq("60000"));
+    }
+
+    @Test
+    @DisplayName("결과를 일괄 기록하면 만료 시간과 함께 한 번의 스크립트 호출로 저장한다.")
+    void putAll_shouldWriteStatusesWithTtlInOneScript() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(2L);
+
+        // when
+        applicationStatusCache.putAll(List.of(
+                new ApplicationOutcome(EMAIL, ApplicationStatus.SUCCESS),
+                new ApplicationOutcome("other@example.com", ApplicationStatus.FAILURE)
+        ));
+
+        // then
+        verify(redisScriptRegistry, times(1)).execute(any(RedisScript.class), eq(List.of(STATUS_KEY)),
+                eq("60000"), eq(EMAIL), eq(ApplicationStatus.SUCCESS.name()),
+                eq("other@example.com"), eq(ApplicationStatus.FAILURE.name()));
+        verify(hashOperations, never()).putAll(anyString(), any());
+        assertThat(applicationStatusCache.get("other@example.com")).contains(ApplicationStatus.FAILURE);
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 Redis 상태 해시와 로컬 캐시가 모두 비워진다.")
+    void clear_shouldDropRedisHashAndLocalCache() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+        applicationStatusCache.put(EMAIL, ApplicationStatus.SUCCESS);
+
+        // when
+        applicationStatusCache.clear();
+
+        // then
+        verify(redisTemplate, times(1)).delete(STATUS_KEY);
+        assertThat(applicationStatusCache.get(EMAIL)).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationWriteBehindBufferTest {
+
+    @Mock
+    private ApplicationService applicationService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationWriteBehindBuffer applicationWriteBehindBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        applicationWriteBehindBuffer = new ApplicationWriteBehindBuffer(applicationService, meterRegistry);
+        ReflectionTestUtils.setField(applicationWriteBehindBuffer, "batchSize", 2);
+        applicationWriteBehindBuffer.init();
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 신청 결과는 배치 크기 단위로 DB에 일괄 저장된다.")
+    void flush_shouldSaveOutcomesInBatches() {
+        // given
+        applicationWriteBehindBuffer.add(ApplicationOutcome.of("a@example.com", ApplicationStatus.SUCCESS));
+        applicationWriteBehindBuffer.add(ApplicationOutcome.of("b@example.com", ApplicationStatus.FAILURE));
+        applicationWriteBehindBuffer.add(ApplicationOutcome.of("c@example.com", ApplicationStatus.FAILURE));
+        applicationWriteBehindBuffer.add(ApplicationOutcome.of("a@example.com", ApplicationStatus.SUCCESS));
+
+        // when
+        applicationWriteBehindBuffer.flush();
+
+        // then
+        verify(applicationService, times(2)).saveApplications(anyList());
+        assertThat(applicationWriteBehindBuffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 저장에 실패하면 결과를 버퍼에 되돌려 다음 주기에 재시도한다.")
+    void flush_whenSaveFails_thenRequeue() {
+        // given
+        ApplicationOutcome outcome = ApplicationOutcome.of("a@example.com", ApplicationStatus.SUCCESS);
+        applicationWriteBehindBuffer.add(outcome);
+        when(applicationService.saveApplications(List.of(outcome))).thenThrow(new RuntimeException("DB 저장 실패"));
+
+        // when
+        applicationWriteBehindBuffer.flush();
+
+        // then
+        assertThat(applicationWriteBehindBuffer.contains("a@example.com")).isTrue();
+        assertThat(meterRegistry.get("event.write-behind.pending").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어있으면 DB를 호출하지 않는다.")
+    void flush_withEmptyBuffer_shouldDoNothing() {
+        // when
+        applicationWriteBehindBuffer.flush();
+
+        // then
+        verify(applicationService, never()).saveApplications(anyList());
+    }
+}
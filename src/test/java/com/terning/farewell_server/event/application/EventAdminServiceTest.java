@@ -24,6 +24,18 @@ class EventAdminServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private SoldOutGate soldOutGate;
+
+    @Mock
+    private GiftStockManager giftStockManager;
+
+    @Mock
+    private ApplicationStatusCache applicationStatusCache;
+
+    @Mock
+    private EventService eventService;
+
     @InjectMocks
     private EventAdminService eventAdminService;
 
@@ -47,7 +59,22 @@ class EventAdminServiceTest {
 
         // then
         verify(valueOperations, times(1)).set(MOCK_GIFT_STOCK_KEY, String.valueOf(stockCount));
+        verify(giftStockManager, times(1)).resetReservations();
+        verify(applicationStatusCache, times(1)).clear();
+        verify(eventService, times(1)).clearAppliedMarkers();
+        verify(soldOutGate, times(1)).reopen();
 
         assertThat(result).isEqualTo(stockCount);
     }
+
+    @Test
+    @DisplayName("재고를 0으로 설정하면, 모든 노드에 마감을 전파해야 한다.")
+    void setEventStock_Zero_MarksSoldOut() {
+        // when
+        eventAdminService.setEventStock(new SetStockRequest(0));
+
+        // then
+        verify(soldOutGate, times(1)).broadcastSoldOut();
+        verify(soldOutGate, never()).reopen();
+    }
 }
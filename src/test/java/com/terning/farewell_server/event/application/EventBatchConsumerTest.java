@@ -0,0 +1,192 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.event.exception.EventErrorCode;
+import com.terning.farewell_server.event.exception.EventException;
+import com.terning.farewell_server.global.common.RedisService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventBatchConsumerTest {
+
+    @InjectMocks
+    private EventBatchConsumer eventBatchConsumer;
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private GiftStockManager giftStockManager;
+
+    @Mock
+    private PartitionDeduplicator partitionDeduplicator;
+
+    @Mock
+    private ApplicationStatusCache applicationStatusCache;
+
+    @Mock
+    private ApplicationResultNotifier applicationResultNotifier;
+
+    @Mock
+    private ApplicationWriteBehindBuffer applicationWriteBehindBuffer;
+
+    @Mock
+    private RedisService redisService;
+
+    private static final String TOPIC = "event-application";
+    private static final String WINNER = "winner@example.com";
+    private static final String LOSER = "loser@example.com";
+
+    @Test
+    @DisplayName("배치 수신 시, 중복을 제거한 이메일로 한 번에 재고를 예약하고 결과를 일괄 저장한다.")
+    void handleApplications_shouldReserveOnceAndSaveBatch() {
+        // given
+        Map<String, ApplicationStatus> reservations = new LinkedHashMap<>();
+        reservations.put(WINNER, ApplicationStatus.SUCCESS);
+        reservations.put(LOSER, ApplicationStatus.FAILURE);
+        List<ApplicationOutcome> outcomes = List.of(
+                ApplicationOutcome.of(WINNER, ApplicationStatus.SUCCESS),
+                ApplicationOutcome.of(LOSER, ApplicationStatus.FAILURE)
+        );
+        when(giftStockManager.reserve(List.of(WINNER, LOSER))).thenReturn(reservations);
+        when(applicationService.saveApplications(outcomes)).thenReturn(outcomes);
+
+        // when
+        eventBatchConsumer.handleApplications(List.of(record(0, WINNER), record(1, LOSER), record(0, WINNER)));
+
+        // then
+        verify(giftStockManager, times(1)).reserve(List.of(WINNER, LOSER));
+        verify(applicationService, times(1)).saveApplications(outcomes);
+        verify(applicationStatusCache, times(1)).putAll(outcomes);
+        verify(applicationResultNotifier, times(1)).publishAll(outcomes);
+        verify(partitionDeduplicator, times(1)).markProcessed(new TopicPartition(TOPIC, 0), WINNER);
+        verify(partitionDeduplicator, times(1)).markProcessed(new TopicPartition(TOPIC, 1), LOSER);
+    }
+
+    @Test
+    @DisplayName("배치 처리 후, 처리한 이메일의 신청 접수 표시를 파이프라인 한 번으로 다시 설정한다.")
+    void handleApplications_shouldRearmAppliedMarkersInOnePipeline() {
+        // given
+        ReflectionTestUtils.setField(eventBatchConsumer, "appliedMarkerPrefix", "event:applied:");
+        ReflectionTestUtils.setField(eventBatchConsumer, "appliedMarkerTtlMs", 60000L);
+        Map<String, ApplicationStatus> reservations = new LinkedHashMap<>();
+        reservations.put(WINNER, ApplicationStatus.SUCCESS);
+        reservations.put(LOSER, ApplicationStatus.FAILURE);
+        when(giftStockManager.reserve(List.of(WINNER, LOSER))).thenReturn(reservations);
+        when(applicationService.saveApplications(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        eventBatchConsumer.handleApplications(List.of(record(0, WINNER), record(1, LOSER)));
+
+        // then
+        verify(redisService, times(1)).setAllWithExpiration(
+                Map.of("event:applied:" + WINNER, "1", "event:applied:" + LOSER, "1"),
+                Duration.ofMillis(60000L));
+    }
+
+    @Test
+    @DisplayName("write-behind 모드에서는 예약 결과를 버퍼에 넘기고, DB 저장을 기다리지 않고 결과를 발행한다.")
+    void handleApplications_withWriteBehind_thenBufferInsteadOfSave() {
+        // given
+        ReflectionTestUtils.setField(eventBatchConsumer, "writeBehindEnabled", true);
+        Map<String, ApplicationStatus> reservations = new LinkedHashMap<>();
+        reservations.put(WINNER, ApplicationStatus.SUCCESS);
+        reservations.put(LOSER, ApplicationStatus.FAILURE);
+        List<ApplicationOutcome> outcomes = List.of(
+                ApplicationOutcome.of(WINNER, ApplicationStatus.SUCCESS),
+                ApplicationOutcome.of(LOSER, ApplicationStatus.FAILURE)
+        );
+        when(giftStockManager.reserve(List.of(WINNER, LOSER))).thenReturn(reservations);
+
+        // when
+        eventBatchConsumer.handleApplications(List.of(record(0, WINNER), record(1, LOSER)));
+
+        // then
+        verify(applicationWriteBehindBuffer, times(1)).addAll(outcomes);
+        verify(applicationService, never()).saveApplications(anyList());
+        verify(applicationStatusCache, times(1)).putAll(outcomes);
+        verify(applicationResultNotifier, times(1)).publishAll(outcomes);
+        verify(partitionDeduplicator, times(1)).markProcessed(new TopicPartition(TOPIC, 0), WINNER);
+        verify(partitionDeduplicator, times(1)).markProcessed(new TopicPartition(TOPIC, 1), LOSER);
+    }
+
+    @Test
+    @DisplayName("파티션에서 이미 처리된 메시지만 있는 배치는 재고를 예약하지 않는다.")
+    void handleApplications_whenAllDuplicates_thenSkip() {
+        // given
+        when(partitionDeduplicator.isDuplicate(new TopicPartition(TOPIC, 0), WINNER)).thenReturn(true);
+
+        // when
+        eventBatchConsumer.handleApplications(List.of(record(0, WINNER)));
+
+        // then
+        verify(giftStockManager, never()).reserve(anyList());
+        verify(applicationService, never()).saveApplications(anyList());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 신청은 결과를 다시 발행하지 않는다.")
+    void handleApplications_whenAlreadySaved_thenSkipPublish() {
+        // given
+        when(giftStockManager.reserve(List.of(WINNER))).thenReturn(Map.of(WINNER, ApplicationStatus.SUCCESS));
+        when(applicationService.saveApplications(anyList())).thenReturn(List.of());
+
+        // when
+        eventBatchConsumer.handleApplications(List.of(record(0, WINNER)));
+
+        // then
+        verify(applicationResultNotifier, never()).publish(any(), any());
+        verify(applicationResultNotifier, times(1)).publishAll(List.of());
+    }
+
+    @Test
+    @DisplayName("재고 예약에 실패하면, 재시도를 위해 예외를 던지고 저장하지 않는다.")
+    void handleApplications_whenReserveFails_thenThrowException() {
+        // given
+        when(giftStockManager.reserve(List.of(WINNER)))
+                .thenThrow(new EventException(EventErrorCode.GIFT_STOCK_INFO_NOT_FOUND));
+
+        // when & then
+        assertThrows(EventException.class, () -> eventBatchConsumer.handleApplications(List.of(record(0, WINNER))));
+        verify(applicationService, never()).saveApplications(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 저장 중 예외가 발생하면, 결과를 반영하지 않고 런타임 예외를 던진다.")
+    void handleApplications_whenDbFails_thenThrowRuntimeException() {
+        // given
+        when(giftStockManager.reserve(List.of(WINNER))).thenReturn(Map.of(WINNER, ApplicationStatus.SUCCESS));
+        when(applicationService.saveApplications(anyList())).thenThrow(new RuntimeException("DB 저장 실패"));
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> eventBatchConsumer.handleApplications(List.of(record(0, WINNER))));
+        verify(applicationStatusCache, never()).putAll(anyList());
+    }
+
+    private ConsumerRecord<String, String> record(int partition, String email) {
+        return new ConsumerRecord<>(TOPIC, partition, 0L, email, email);
+    }
+}
@@ -1,10 +1,10 @@
 package com.terning.farewell_server.event.application;
 
 import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
 import com.terning.farewell_server.application.domain.ApplicationStatus;
 import com.terning.farewell_server.event.exception.EventException;
-import com.terning.farewell_server.mail.application.EmailService;
-import org.junit.jupiter.api.BeforeEach;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,14 +12,11 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
@@ -38,83 +35,118 @@ class EventConsumerTest {
     private ApplicationService applicationService;
 
     @Mock
-    private EmailService emailService;
+    private GiftStockManager giftStockManager;
+
+    @Mock
+    private PartitionDeduplicator partitionDeduplicator;
 
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private ApplicationStatusCache applicationStatusCache;
+
+    @Mock
+    private ApplicationResultNotifier applicationResultNotifier;
+
+    @Mock
+    private ApplicationWriteBehindBuffer applicationWriteBehindBuffer;
 
     private static final String EMAIL = "test@example.com";
     private static final String TOPIC = "event-application";
-    private static final String GIFT_STOCK_KEY = "event:gift:stock";
+    private static final int PARTITION = 3;
+    private static final TopicPartition TOPIC_PARTITION = new TopicPartition(TOPIC, PARTITION);
 
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(eventConsumer, "giftStockKey", GIFT_STOCK_KEY);
+    @Test
+    @DisplayName("같은 파티션에서 이미 처리된 신청 메시지는 재고를 차감하지 않고 건너뛴다.")
+    void handleApplication_whenDuplicateInPartition_thenSkip() {
+        // given
+        when(partitionDeduplicator.isDuplicate(TOPIC_PARTITION, EMAIL)).thenReturn(true);
+
+        // when
+        eventConsumer.handleApplication(EMAIL, TOPIC, PARTITION);
+
+        // then
+        verify(giftStockManager, never()).decrease(anyString());
+        verify(applicationService, never()).saveApplication(any(), any());
     }
 
     @Test
-    @DisplayName("재고가 남아있을 때(Redis decr >= 0), SUCCESS 상태로 저장하고 확인 이메일을 발송한다.")
+    @DisplayName("재고가 남아있을 때(Redis decr >= 0), SUCCESS 상태로 저장하고 결과를 캐시에 반영한다.")
     void handleApplication_whenStockAvailable_thenProcessSuccess() {
         // given
-        when(redisTemplate.execute(any(RedisScript.class), any(List.class)))
-                .thenReturn(99L);
+        when(giftStockManager.decrease(EMAIL)).thenReturn(99L);
 
         // when
-        eventConsumer.handleApplication(EMAIL, TOPIC);
+        eventConsumer.handleApplication(EMAIL, TOPIC, PARTITION);
 
         // then
-        InOrder inOrder = inOrder(applicationService, emailService);
+        InOrder inOrder = inOrder(applicationService, applicationStatusCache);
         inOrder.verify(applicationService, times(1)).saveApplication(EMAIL, ApplicationStatus.SUCCESS);
-        inOrder.verify(emailService, times(1)).sendConfirmationEmail(EMAIL);
+        inOrder.verify(applicationStatusCache, times(1)).put(EMAIL, ApplicationStatus.SUCCESS);
+        verify(partitionDeduplicator, times(1)).markProcessed(TOPIC_PARTITION, EMAIL);
+        verify(applicationResultNotifier, times(1)).publish(EMAIL, ApplicationStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("write-behind 모드에서는 DB에 바로 저장하지 않고, 결과를 버퍼에 넘긴 뒤 캐시와 알림에 반영한다.")
+    void handleApplication_withWriteBehind_thenBufferInsteadOfSave() {
+        // given
+        ReflectionTestUtils.setField(eventConsumer, "writeBehindEnabled", true);
+        when(giftStockManager.decrease(EMAIL)).thenReturn(99L);
+
+        // when
+        eventConsumer.handleApplication(EMAIL, TOPIC, PARTITION);
+
+        // then
+        verify(applicationWriteBehindBuffer, times(1)).add(ApplicationOutcome.of(EMAIL, ApplicationStatus.SUCCESS));
+        verify(applicationService, never()).saveApplication(any(), any());
+        verify(applicationStatusCache, times(1)).put(EMAIL, ApplicationStatus.SUCCESS);
+        verify(applicationResultNotifier, times(1)).publish(EMAIL, ApplicationStatus.SUCCESS);
+        verify(partitionDeduplicator, times(1)).markProcessed(TOPIC_PARTITION, EMAIL);
     }
 
     @Test
-    @DisplayName("재고가 소진되었을 때(Redis decr < 0), FAILURE 상태로 저장하고 이메일은 발송하지 않는다.")
+    @DisplayName("재고가 소진되었을 때(Redis decr < 0), FAILURE 상태로 저장한다.")
     void handleApplication_whenStockExhausted_thenProcessFailure() {
         // given
-        when(redisTemplate.execute(any(RedisScript.class), any(List.class)))
-                .thenReturn(-1L);
+        when(giftStockManager.decrease(EMAIL)).thenReturn(-1L);
 
         // when
-        eventConsumer.handleApplication(EMAIL, TOPIC);
+        eventConsumer.handleApplication(EMAIL, TOPIC, PARTITION);
 
         // then
         verify(applicationService, times(1)).saveApplication(EMAIL, ApplicationStatus.FAILURE);
-        verify(emailService, never()).sendConfirmationEmail(EMAIL);
+        verify(applicationService, never()).saveApplication(EMAIL, ApplicationStatus.SUCCESS);
     }
 
     @Test
     @DisplayName("Redis 스크립트 실행 결과가 null일 때, 재시도를 위해 EventException을 던져야 한다.")
     void handleApplication_whenRedisReturnsNull_thenThrowException() {
         // given
-        when(redisTemplate.execute(any(RedisScript.class), any(List.class)))
-                .thenReturn(null);
+        when(giftStockManager.decrease(EMAIL)).thenReturn(null);
 
         // when & then
         assertThrows(EventException.class, () -> {
-            eventConsumer.handleApplication(EMAIL, TOPIC);
+            eventConsumer.handleApplication(EMAIL, TOPIC, PARTITION);
         });
 
         // then
         verify(applicationService, never()).saveApplication(any(String.class), any(ApplicationStatus.class));
-        verify(emailService, never()).sendConfirmationEmail(EMAIL);
     }
 
     @Test
-    @DisplayName("DB 저장 중 예외가 발생하면, 이메일 발송은 시도되지 않고 런타임 예외를 다시 던져야 한다.")
+    @DisplayName("DB 저장 중 예외가 발생하면, 결과를 반영하지 않고 런타임 예외를 다시 던져야 한다.")
     void handleApplication_whenDbFails_thenThrowRuntimeException() {
         // given
-        when(redisTemplate.execute(any(RedisScript.class), any(List.class)))
-                .thenReturn(99L);
+        when(giftStockManager.decrease(EMAIL)).thenReturn(99L);
         doThrow(new RuntimeException("DB 저장 실패"))
                 .when(applicationService).saveApplication(EMAIL, ApplicationStatus.SUCCESS);
 
         // when & then
         assertThrows(RuntimeException.class, () -> {
-            eventConsumer.handleApplication(EMAIL, TOPIC);
+            eventConsumer.handleApplication(EMAIL, TOPIC, PARTITION);
         });
 
         // then
-        verify(emailService, never()).sendConfirmationEmail(EMAIL);
+        verify(applicationStatusCache, never()).put(any(), any());
+        verify(partitionDeduplicator, never()).markProcessed(TOPIC_PARTITION, EMAIL);
     }
 }
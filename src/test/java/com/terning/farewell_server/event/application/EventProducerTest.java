@@ -0,0 +1,100 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.event.exception.EventErrorCode;
+import com.terning.farewell_server.event.exception.EventException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventProducerTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventProducer eventProducer;
+
+    private static final String KAFKA_TOPIC = "event-application";
+    private static final String EMAIL = "user@example.com";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventProducer = new EventProducer(kafkaTemplate, meterRegistry);
+        ReflectionTestUtils.setField(eventProducer, "kafkaTopic", KAFKA_TOPIC);
+        ReflectionTestUtils.setField(eventProducer, "sendTimeoutMs", 1000L);
+        eventProducer.init();
+    }
+
+    @Test
+    @DisplayName("브로커 ack를 받으면 정상 반환하고, 지연 시간을 기록한다.")
+    @SuppressWarnings("unchecked")
+    void send_whenAcked_thenRecordLatency() {
+        // given
+        SendResult<String, String> sendResult = mock(SendResult.class);
+        when(kafkaTemplate.send(KAFKA_TOPIC, EMAIL, EMAIL)).thenReturn(CompletableFuture.completedFuture(sendResult));
+
+        // when
+        eventProducer.send(EMAIL);
+
+        // then
+        assertThat(meterRegistry.get("event.kafka.send").tag("result", "success").timer().count()).isEqualTo(1);
+        assertThat(eventProducer.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("브로커 전송이 실패하면, EVENT_PUBLISH_FAILED 예외를 던지고 실패를 집계한다.")
+    void send_whenBrokerFails_thenThrowException() {
+        // given
+        when(kafkaTemplate.send(KAFKA_TOPIC, EMAIL, EMAIL))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when & then
+        assertThatThrownBy(() -> eventProducer.send(EMAIL))
+                .isInstanceOf(EventException.class)
+                .hasFieldOrPropertyWithValue("errorCode", EventErrorCode.EVENT_PUBLISH_FAILED);
+        assertThat(meterRegistry.get("event.kafka.send.failures").counter().count()).isEqualTo(1);
+        assertThat(eventProducer.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 ack가 오지 않으면, EVENT_PUBLISH_FAILED 예외를 던진다.")
+    void send_whenAckTimesOut_thenThrowException() {
+        // given
+        ReflectionTestUtils.setField(eventProducer, "sendTimeoutMs", 10L);
+        when(kafkaTemplate.send(KAFKA_TOPIC, EMAIL, EMAIL)).thenReturn(new CompletableFuture<>());
+
+        // when & then
+        assertThatThrownBy(() -> eventProducer.send(EMAIL))
+                .isInstanceOf(EventException.class)
+                .hasFieldOrPropertyWithValue("errorCode", EventErrorCode.EVENT_PUBLISH_FAILED);
+        assertThat(eventProducer.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("send 호출 자체가 예외를 던지면, in-flight를 되돌리고 EVENT_PUBLISH_FAILED 예외를 던진다.")
+    void send_whenSendThrows_thenThrowException() {
+        // given
+        when(kafkaTemplate.send(KAFKA_TOPIC, EMAIL, EMAIL)).thenThrow(new IllegalStateException("buffer full"));
+
+        // when & then
+        assertThatThrownBy(() -> eventProducer.send(EMAIL))
+                .isInstanceOf(EventException.class);
+        assertThat(eventProducer.getInFlight()).isZero();
+    }
+}
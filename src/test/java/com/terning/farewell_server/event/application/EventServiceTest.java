@@ -4,21 +4,32 @@ import com.terning.farewell_server.application.domain.Application;
 import com.terning.farewell_server.application.domain.ApplicationRepository;
 import com.terning.farewell_server.application.domain.ApplicationStatus;
 import com.terning.farewell_server.event.dto.response.StatusResponse;
+import com.terning.farewell_server.event.exception.EventErrorCode;
 import com.terning.farewell_server.event.exception.EventException;
+import com.terning.farewell_server.global.common.RedisService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,25 +41,99 @@ class EventServiceTest {
     private EventService eventService;
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private EventProducer eventProducer;
 
     @Mock
     private ApplicationRepository applicationRepository;
 
-    private static final String KAFKA_TOPIC = "event-application";
+    @Mock
+    private SoldOutGate soldOutGate;
+
+    @Mock
+    private SoldOutApplicationBuffer soldOutApplicationBuffer;
+
+    @Mock
+    private ApplicationStatusCache applicationStatusCache;
+
+    @Mock
+    private ApplicationResultNotifier applicationResultNotifier;
+
+    @Mock
+    private RedisService redisService;
+
     private static final String EMAIL = "user@example.com";
+    private static final String APPLIED_MARKER_KEY = "event:applied:" + EMAIL;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(eventService, "appliedMarkerPrefix", "event:applied:");
+        ReflectionTestUtils.setField(eventService, "appliedMarkerTtlMs", 60000L);
+    }
 
     @Test
     @DisplayName("이벤트 신청 시, Kafka로 사용자 이메일 메시지를 정확히 한 번 발행해야 한다.")
     void applyForGift_shouldSendEmailToKafka() {
         // given
-        ReflectionTestUtils.setField(eventService, "kafkaTopic", KAFKA_TOPIC);
+        when(redisService.setDataIfAbsent(eq(APPLIED_MARKER_KEY), anyString(), any(Duration.class))).thenReturn(true);
 
         // when
         eventService.applyForGift(EMAIL);
 
         // then
-        verify(kafkaTemplate, times(1)).send(KAFKA_TOPIC, EMAIL);
+        verify(eventProducer, times(1)).send(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Kafka 발행에 실패하면, 202를 반환하지 않고 예외를 그대로 전파한다.")
+    void applyForGift_whenPublishFails_thenThrowException() {
+        // given
+        when(redisService.setDataIfAbsent(eq(APPLIED_MARKER_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        doThrow(new EventException(EventErrorCode.EVENT_PUBLISH_FAILED)).when(eventProducer).send(EMAIL);
+
+        // when & then
+        EventException exception = assertThrows(EventException.class, () -> eventService.applyForGift(EMAIL));
+        assertThat(exception.getErrorCode()).isEqualTo(EventErrorCode.EVENT_PUBLISH_FAILED);
+        verify(redisService, times(1)).deleteData(APPLIED_MARKER_KEY);
+    }
+
+    @Test
+    @DisplayName("이미 접수된 신청을 다시 요청하면, Kafka로 발행하지 않고 정상 반환한다.")
+    void applyForGift_whenAlreadyApplied_shouldSkipKafka() {
+        // given
+        when(redisService.setDataIfAbsent(eq(APPLIED_MARKER_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        eventService.applyForGift(EMAIL);
+
+        // then
+        verify(eventProducer, never()).send(anyString());
+    }
+
+    @Test
+    @DisplayName("접수 표시를 Redis에 남기지 못해도, 신청은 Kafka로 발행한다.")
+    void applyForGift_whenMarkerFails_shouldStillSend() {
+        // given
+        when(redisService.setDataIfAbsent(eq(APPLIED_MARKER_KEY), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        eventService.applyForGift(EMAIL);
+
+        // then
+        verify(eventProducer, times(1)).send(EMAIL);
+    }
+
+    @Test
+    @DisplayName("재고가 소진된 뒤의 신청은 Kafka로 발행하지 않고, 마감 예외를 던지며 FAILURE 기록을 버퍼에 적재한다.")
+    void applyForGift_whenSoldOut_shouldRejectWithoutKafka() {
+        // given
+        when(soldOutGate.isSoldOut()).thenReturn(true);
+
+        // when & then
+        EventException exception = assertThrows(EventException.class, () -> eventService.applyForGift(EMAIL));
+        assertThat(exception.getErrorCode()).isEqualTo(EventErrorCode.EVENT_CLOSED);
+        verify(soldOutApplicationBuffer, times(1)).add(EMAIL);
+        verify(eventProducer, never()).send(anyString());
     }
 
     @Test
@@ -65,6 +150,32 @@ class EventServiceTest {
 
         // then
         assertThat(response.status()).isEqualTo(ApplicationStatus.SUCCESS.name());
+        verify(applicationStatusCache, times(1)).put(EMAIL, ApplicationStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("캐시에 신청 결과가 있으면 DB를 조회하지 않는다.")
+    void getApplicationStatus_whenCached_thenSkipDb() {
+        // given
+        when(applicationStatusCache.get(EMAIL)).thenReturn(Optional.of(ApplicationStatus.FAILURE));
+
+        // when
+        StatusResponse response = eventService.getApplicationStatus(EMAIL);
+
+        // then
+        assertThat(response.status()).isEqualTo(ApplicationStatus.FAILURE.name());
+        verify(applicationRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("처리 대기 중으로 캐시된 사용자는 DB를 조회하지 않고 예외가 발생한다.")
+    void getApplicationStatus_whenPending_thenSkipDb() {
+        // given
+        when(applicationStatusCache.isPending(EMAIL)).thenReturn(true);
+
+        // when & then
+        assertThrows(EventException.class, () -> eventService.getApplicationStatus(EMAIL));
+        verify(applicationRepository, never()).findByEmail(anyString());
     }
 
     @Test
@@ -76,6 +187,66 @@ class EventServiceTest {
 
         // when & then
         assertThrows(EventException.class, () -> eventService.getApplicationStatus(EMAIL));
+        verify(applicationStatusCache, times(1)).markPending(EMAIL);
     }
-}
 
+    @Test
+    @DisplayName("결과 대기 시 이미 결과가 있으면 즉시 응답하고 구독을 해제한다.")
+    void awaitApplicationResult_whenResultExists_thenCompleteImmediately() {
+        // given
+        Runnable unsubscribe = mock(Runnable.class);
+        when(applicationResultNotifier.subscribe(eq(EMAIL), any())).thenReturn(unsubscribe);
+        when(applicationStatusCache.get(EMAIL)).thenReturn(Optional.of(ApplicationStatus.SUCCESS));
+        List<StatusResponse> results = new ArrayList<>();
+
+        // when
+        eventService.awaitApplicationResult(EMAIL, results::add);
+
+        // then
+        assertThat(results).extracting(StatusResponse::status).containsExactly(ApplicationStatus.SUCCESS.name());
+        verify(unsubscribe, times(1)).run();
+    }
+
+    @Test
+    @DisplayName("결과 대기 시 아직 결과가 없으면 응답하지 않고 구독을 유지한다.")
+    void awaitApplicationResult_whenNoResult_thenKeepWaiting() {
+        // given
+        Runnable unsubscribe = mock(Runnable.class);
+        when(applicationResultNotifier.subscribe(eq(EMAIL), any())).thenReturn(unsubscribe);
+        when(applicationStatusCache.isPending(EMAIL)).thenReturn(true);
+        List<StatusResponse> results = new ArrayList<>();
+
+        // when
+        Runnable returned = eventService.awaitApplicationResult(EMAIL, results::add);
+
+        // then
+        assertThat(results).isEmpty();
+        assertThat(returned).isSameAs(unsubscribe);
+        verify(unsubscribe, never()).run();
+    }
+
+    @Test
+    @DisplayName("신청 접수 표시를 지우면, 접두사가 같은 키를 모두 삭제한다.")
+    void clearAppliedMarkers_shouldDeleteByPrefix() {
+        // when
+        eventService.clearAppliedMarkers();
+
+        // then
+        verify(redisService, times(1)).deleteByPrefix("event:applied:", 1000);
+    }
+
+    @Test
+    @DisplayName("마감 전에 접수된 사용자가 마감 후 다시 신청하면, 마감 예외 없이 반환하고 FAILURE 기록을 적재하지 않는다.")
+    void applyForGift_whenSoldOutButAlreadyApplied_shouldNotBufferFailure() {
+        // given
+        when(soldOutGate.isSoldOut()).thenReturn(true);
+        when(redisService.getData(APPLIED_MARKER_KEY)).thenReturn("1");
+
+        // when
+        eventService.applyForGift(EMAIL);
+
+        // then
+        verify(soldOutApplicationBuffer, never()).add(anyString());
+        verify(eventProducer, never()).send(anyString());
+    }
+}
@@ -0,0 +1,66 @@
+package com.terning.farewell_server.event.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GiftStockGaugeTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GiftStockGauge giftStockGauge;
+
+    private static final String GIFT_STOCK_KEY = "event:gift:stock";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        giftStockGauge = new GiftStockGauge(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(giftStockGauge, "giftStockKey", GIFT_STOCK_KEY);
+        giftStockGauge.init();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("게이지는 조회 시점의 Redis 중앙 재고를 보고한다.")
+    void gauge_shouldReportCurrentStock() {
+        // given
+        when(valueOperations.get(GIFT_STOCK_KEY)).thenReturn("42");
+
+        // when
+        double remaining = meterRegistry.get("event.stock.remaining").gauge().value();
+
+        // then
+        assertThat(remaining).isEqualTo(42.0);
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 게이지는 NaN을 보고한다.")
+    void gauge_whenRedisFails_thenReportNaN() {
+        // given
+        when(valueOperations.get(GIFT_STOCK_KEY)).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        double remaining = meterRegistry.get("event.stock.remaining").gauge().value();
+
+        // then
+        assertThat(remaining).isNaN();
+    }
+}
@@ -0,0 +1,89 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.auth.application.AuthService;
+import com.terning.farewell_server.mail.application.EmailService;
+import com.terning.farewell_server.util.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@TestPropertySource(properties = {
+        "event.stock.lease.enabled=true",
+        "event.stock.lease.size=50",
+        "event.stock.lease.unreported-max=10"
+})
+class GiftStockManagerLeaseIntegrationTest extends IntegrationTestSupport {
+
+    private static final String GIFT_STOCK_KEY = "event:gift:stock:test";
+    private static final String LEASE_KEY = GIFT_STOCK_KEY + GiftStockManager.LEASE_KEY_SUFFIX;
+    private static final String LEASE_DEADLINES_KEY = GIFT_STOCK_KEY + GiftStockManager.LEASE_DEADLINES_KEY_SUFFIX;
+    private static final String DEAD_NODE = "dead-node";
+
+    @Autowired
+    private GiftStockManager giftStockManager;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public AuthService authService() {
+            return mock(AuthService.class);
+        }
+
+        @Bean
+        public EmailService emailService() {
+            return mock(EmailService.class);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        giftStockManager.returnLease();
+        redisTemplate.delete(List.of(GIFT_STOCK_KEY, LEASE_KEY, LEASE_DEADLINES_KEY));
+    }
+
+    @Test
+    @DisplayName("만료된 노드의 임대는 다음 임대 시 정리되고, 보고된 토큰만 중앙 재고로 돌아온다.")
+    void lease_shouldReclaimReportedTokensOfExpiredNode() {
+        // given
+        redisTemplate.opsForValue().set(GIFT_STOCK_KEY, "5");
+        redisTemplate.opsForHash().put(LEASE_KEY, DEAD_NODE, "4");
+        redisTemplate.opsForZSet().add(LEASE_DEADLINES_KEY, DEAD_NODE, 0);
+
+        // when
+        Long remaining = giftStockManager.decrease("user@example.com");
+
+        // then
+        assertThat(remaining).isEqualTo(8L);
+        assertThat(redisTemplate.opsForHash().hasKey(LEASE_KEY, DEAD_NODE)).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(LEASE_DEADLINES_KEY, DEAD_NODE)).isNull();
+        assertThat(redisTemplate.opsForValue().get(GIFT_STOCK_KEY)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("임대를 반납하면 남은 토큰이 중앙 재고로 돌아오고 임대 정보가 삭제된다.")
+    void returnLease_shouldRestoreCentralStock() {
+        // given
+        redisTemplate.opsForValue().set(GIFT_STOCK_KEY, "20");
+        giftStockManager.decrease("user@example.com");
+
+        // when
+        giftStockManager.returnLease();
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(GIFT_STOCK_KEY)).isEqualTo("19");
+        assertThat(redisTemplate.opsForZSet().zCard(LEASE_DEADLINES_KEY)).isZero();
+    }
+}
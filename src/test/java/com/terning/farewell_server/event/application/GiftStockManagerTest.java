@@ -0,0 +1,297 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.event.exception.EventException;
+import com.terning.farewell_server.global.common.RedisScriptRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GiftStockManagerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SoldOutGate soldOutGate;
+
+    @Mock
+    private RedisScriptRegistry redisScriptRegistry;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private GiftStockManager giftStockManager;
+
+    private static final String GIFT_STOCK_KEY = "event:gift:stock";
+    private static final String LEASE_KEY = "event:gift:stock:leases";
+    private static final String LEASE_DEADLINES_KEY = "event:gift:stock:lease-deadlines";
+    private static final String WINNERS_KEY = "event:gift:stock:winners";
+    private static final String ROUND_STARTED_AT_KEY = "event:gift:stock:round-started-at";
+    private static final String EMAIL = "user@example.com";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(giftStockManager, "giftStockKey", GIFT_STOCK_KEY);
+        ReflectionTestUtils.setField(giftStockManager, "leaseSize", 3);
+        ReflectionTestUtils.setField(giftStockManager, "idleReturnMs", 2000L);
+        ReflectionTestUtils.setField(giftStockManager, "leaseTtlMs", 30000L);
+        ReflectionTestUtils.setField(giftStockManager, "unreportedMax", 3);
+        when(redisScriptRegistry.register(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> new DefaultRedisScript<>(invocation.getArgument(1), invocation.getArgument(2)));
+        giftStockManager.init();
+    }
+
+    @Test
+    @DisplayName("마지막 재고를 차감하면(Redis decr == 0), 마감을 전파한다.")
+    void decrease_whenLastStockTaken_thenMarkSoldOut() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, WINNERS_KEY)), eq(EMAIL))).thenReturn(0L);
+
+        // when
+        Long remainingStock = giftStockManager.decrease(EMAIL);
+
+        // then
+        assertThat(remainingStock).isZero();
+        verify(soldOutGate, times(1)).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("재고가 남아있으면 마감을 전파하지 않는다.")
+    void decrease_whenStockRemains_thenKeepOpen() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, WINNERS_KEY)), eq(EMAIL))).thenReturn(10L);
+
+        // when
+        giftStockManager.decrease(EMAIL);
+
+        // then
+        verify(soldOutGate, never()).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("배치 재고 예약 시, 스크립트 결과 순서대로 이메일별 SUCCESS/FAILURE를 매핑한다.")
+    void reserve_shouldMapResultsToEmailsInOrder() {
+        // given
+        List<String> emails = List.of("a@example.com", "b@example.com", "c@example.com");
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, WINNERS_KEY)), any(Object[].class)))
+                .thenReturn(List.of(1L, 1L, 0L, 0L));
+
+        // when
+        Map<String, ApplicationStatus> result = giftStockManager.reserve(emails);
+
+        // then
+        assertThat(result).containsExactly(
+                Map.entry("a@example.com", ApplicationStatus.SUCCESS),
+                Map.entry("b@example.com", ApplicationStatus.SUCCESS),
+                Map.entry("c@example.com", ApplicationStatus.FAILURE)
+        );
+        verify(soldOutGate, times(1)).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("배치 재고 예약으로 남은 재고가 0이 되면, 실패한 신청이 없어도 마감을 전파한다.")
+    void reserve_whenLastStockReserved_thenMarkSoldOut() {
+        // given
+        List<String> emails = List.of("a@example.com", "b@example.com");
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, WINNERS_KEY)), any(Object[].class)))
+                .thenReturn(List.of(1L, 1L, 0L));
+
+        // when
+        Map<String, ApplicationStatus> result = giftStockManager.reserve(emails);
+
+        // then
+        assertThat(result).containsOnlyKeys(emails);
+        assertThat(result.values()).containsOnly(ApplicationStatus.SUCCESS);
+        verify(soldOutGate, times(1)).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("배치 재고 예약 뒤에도 재고가 남아 있으면 마감을 전파하지 않는다.")
+    void reserve_whenStockRemains_thenKeepOpen() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, WINNERS_KEY)), any(Object[].class)))
+                .thenReturn(List.of(1L, 5L));
+
+        // when
+        giftStockManager.reserve(List.of("a@example.com"));
+
+        // then
+        verify(soldOutGate, never()).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("배치 재고 예약 스크립트 결과가 null이면, EventException을 던져야 한다.")
+    void reserve_whenRedisReturnsNull_thenThrowException() {
+        // given
+        when(redisScriptRegistry.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> giftStockManager.reserve(List.of("a@example.com")))
+                .isInstanceOf(EventException.class);
+    }
+
+    @Test
+    @DisplayName("빈 배치는 Redis를 호출하지 않는다.")
+    void reserve_withEmptyBatch_shouldNotCallRedis() {
+        // when
+        Map<String, ApplicationStatus> result = giftStockManager.reserve(List.of());
+
+        // then
+        assertThat(result).isEmpty();
+        verify(redisScriptRegistry, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("임대 모드에서는 한 번 임대한 토큰을 Redis 호출 없이 로컬에서 차감한다.")
+    void decrease_withLease_shouldServeFromLocalTokens() {
+        // given
+        ReflectionTestUtils.setField(giftStockManager, "leaseEnabled", true);
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, LEASE_KEY, LEASE_DEADLINES_KEY)), any(Object[].class)))
+                .thenReturn(List.of(3L, 0L, 1L));
+
+        // when
+        Long first = giftStockManager.decrease(EMAIL);
+        Long second = giftStockManager.decrease(EMAIL);
+
+        // then
+        assertThat(first).isEqualTo(2L);
+        assertThat(second).isEqualTo(1L);
+        verify(redisScriptRegistry, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("임대 모드에서 중앙 재고와 다른 노드의 임대가 모두 없으면, 실패 처리하고 마감을 전파한다.")
+    void decrease_withLease_whenNothingLeft_thenSoldOut() {
+        // given
+        ReflectionTestUtils.setField(giftStockManager, "leaseEnabled", true);
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, LEASE_KEY, LEASE_DEADLINES_KEY)), any(Object[].class)))
+                .thenReturn(List.of(0L, 0L, 0L));
+
+        // when
+        Long remainingStock = giftStockManager.decrease(EMAIL);
+
+        // then
+        assertThat(remainingStock).isEqualTo(-1L);
+        verify(soldOutGate, times(1)).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("임대 모드에서 다른 노드가 아직 토큰을 보유 중이면, 실패 처리하되 마감은 전파하지 않는다.")
+    void decrease_withLease_whenOtherNodesHoldTokens_thenKeepOpen() {
+        // given
+        ReflectionTestUtils.setField(giftStockManager, "leaseEnabled", true);
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, LEASE_KEY, LEASE_DEADLINES_KEY)), any(Object[].class)))
+                .thenReturn(List.of(0L, 0L, 2L));
+
+        // when
+        Long remainingStock = giftStockManager.decrease(EMAIL);
+
+        // then
+        assertThat(remainingStock).isEqualTo(-1L);
+        verify(soldOutGate, never()).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("임대 모드의 배치 예약은 확보한 토큰 수만큼만 SUCCESS로 처리한다.")
+    void reserve_withLease_shouldNeverOverAllocate() {
+        // given
+        ReflectionTestUtils.setField(giftStockManager, "leaseEnabled", true);
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, LEASE_KEY, LEASE_DEADLINES_KEY)), any(Object[].class)))
+                .thenReturn(List.of(2L, 0L, 1L), List.of(0L, 0L, 0L));
+
+        // when
+        Map<String, ApplicationStatus> result = giftStockManager.reserve(
+                List.of("a@example.com", "b@example.com", "c@example.com"));
+
+        // then
+        assertThat(result.values()).containsExactly(
+                ApplicationStatus.SUCCESS, ApplicationStatus.SUCCESS, ApplicationStatus.FAILURE);
+        verify(soldOutGate, times(1)).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("임대 모드에서 미보고 토큰을 다 쓰면, 남은 토큰을 보고해 임대를 갱신한 뒤 이어서 차감한다.")
+    void decrease_withLease_shouldReportBeforeSpendingReportedTokens() {
+        // given
+        ReflectionTestUtils.setField(giftStockManager, "leaseSize", 5);
+        ReflectionTestUtils.setField(giftStockManager, "unreportedMax", 2);
+        ReflectionTestUtils.setField(giftStockManager, "leaseEnabled", true);
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, LEASE_KEY, LEASE_DEADLINES_KEY)), any(Object[].class)))
+                .thenReturn(List.of(5L, 3L, 1L));
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(LEASE_KEY, LEASE_DEADLINES_KEY)), any(Object[].class)))
+                .thenReturn(1L);
+
+        // when
+        giftStockManager.decrease(EMAIL);
+        giftStockManager.decrease(EMAIL);
+        Long third = giftStockManager.decrease(EMAIL);
+
+        // then
+        assertThat(third).isEqualTo(2L);
+        verify(redisScriptRegistry, times(1)).execute(any(RedisScript.class), eq(List.of(LEASE_KEY, LEASE_DEADLINES_KEY)),
+                anyString(), eq("1"), eq("30000"));
+    }
+
+    @Test
+    @DisplayName("임대가 만료되어 다른 노드가 토큰을 회수했다면, 보고했던 토큰은 버리고 새로 임대한다.")
+    void decrease_withLease_whenLeaseReclaimed_thenDropReportedTokens() {
+        // given
+        ReflectionTestUtils.setField(giftStockManager, "leaseSize", 5);
+        ReflectionTestUtils.setField(giftStockManager, "unreportedMax", 2);
+        ReflectionTestUtils.setField(giftStockManager, "leaseEnabled", true);
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(GIFT_STOCK_KEY, LEASE_KEY, LEASE_DEADLINES_KEY)), any(Object[].class)))
+                .thenReturn(List.of(5L, 3L, 1L), List.of(0L, 0L, 0L));
+        when(redisScriptRegistry.execute(any(RedisScript.class), eq(List.of(LEASE_KEY, LEASE_DEADLINES_KEY)), any(Object[].class)))
+                .thenReturn(0L);
+
+        // when
+        giftStockManager.decrease(EMAIL);
+        giftStockManager.decrease(EMAIL);
+        Long third = giftStockManager.decrease(EMAIL);
+
+        // then
+        assertThat(third).isEqualTo(-1L);
+        verify(soldOutGate, times(1)).markSoldOut();
+    }
+
+    @Test
+    @DisplayName("재고를 다시 설정하면, 임대 토큰과 당첨자 집합을 함께 초기화하고 회차 시작 시각을 기록한다.")
+    void resetReservations_shouldDeleteLeaseAndWinnerKeys() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        giftStockManager.resetReservations();
+
+        // then
+        verify(redisTemplate, times(1)).delete(List.of(LEASE_KEY, LEASE_DEADLINES_KEY, WINNERS_KEY));
+        verify(valueOperations, times(1)).set(eq(ROUND_STARTED_AT_KEY), anyString());
+    }
+}
@@ -0,0 +1,58 @@
+package com.terning.farewell_server.event.application;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaConsumeLagRecorderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaConsumeLagRecorder kafkaConsumeLagRecorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        kafkaConsumeLagRecorder = new KafkaConsumeLagRecorder(meterRegistry);
+        kafkaConsumeLagRecorder.init();
+    }
+
+    @Test
+    @DisplayName("레코드 타임스탬프부터 현재까지의 시간을 소비 지연으로 기록한다.")
+    void recordLag_shouldRecordTimeSinceRecordTimestamp() {
+        // given
+        ConsumerRecord<String, String> record = record(System.currentTimeMillis() - 1500);
+
+        // when
+        kafkaConsumeLagRecorder.recordLag(record);
+
+        // then
+        Timer timer = meterRegistry.get("event.kafka.consume.lag").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("타임스탬프가 없는 레코드는 기록하지 않는다.")
+    void recordLag_withoutTimestamp_shouldSkip() {
+        // when
+        kafkaConsumeLagRecorder.recordLag(record(ConsumerRecord.NO_TIMESTAMP));
+
+        // then
+        assertThat(meterRegistry.get("event.kafka.consume.lag").timer().count()).isZero();
+    }
+
+    private ConsumerRecord<String, String> record(long timestamp) {
+        return new ConsumerRecord<>("event-application", 0, 0L, timestamp, TimestampType.CREATE_TIME,
+                -1, -1, "user@example.com", "user@example.com", new RecordHeaders(), Optional.empty());
+    }
+}
@@ -0,0 +1,78 @@
+package com.terning.farewell_server.event.application;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionDeduplicatorTest {
+
+    private PartitionDeduplicator partitionDeduplicator;
+
+    private static final String TOPIC = "event-application";
+    private static final String EMAIL = "test@example.com";
+
+    @BeforeEach
+    void setUp() {
+        partitionDeduplicator = new PartitionDeduplicator();
+        ReflectionTestUtils.setField(partitionDeduplicator, "enabled", true);
+        ReflectionTestUtils.setField(partitionDeduplicator, "capacityPerPartition", 2);
+    }
+
+    @Test
+    @DisplayName("처리 완료로 기록된 이메일은 같은 파티션에서만 중복으로 판단한다.")
+    void isDuplicate_shouldBeScopedToPartition() {
+        // when
+        partitionDeduplicator.markProcessed(new TopicPartition(TOPIC, 0), EMAIL);
+
+        // then
+        assertThat(partitionDeduplicator.isDuplicate(new TopicPartition(TOPIC, 0), EMAIL)).isTrue();
+        assertThat(partitionDeduplicator.isDuplicate(new TopicPartition(TOPIC, 1), EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 파티션 번호라도 토픽이 다르면 별도로 기록하고, 다른 토픽의 리밸런스에 영향받지 않는다.")
+    void isDuplicate_shouldBeScopedToTopic() {
+        // given
+        TopicPartition retryPartition = new TopicPartition(TOPIC + "-retry-0", 0);
+        partitionDeduplicator.markProcessed(new TopicPartition(TOPIC, 0), EMAIL);
+
+        // when
+        partitionDeduplicator.onPartitionsRevokedAfterCommit(null, List.of(retryPartition));
+
+        // then
+        assertThat(partitionDeduplicator.isDuplicate(new TopicPartition(TOPIC, 0), EMAIL)).isTrue();
+        assertThat(partitionDeduplicator.isDuplicate(retryPartition, EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("파티션별 용량을 넘으면 가장 오래된 이메일부터 잊는다.")
+    void markProcessed_whenCapacityExceeded_thenEvictEldest() {
+        // when
+        partitionDeduplicator.markProcessed(new TopicPartition(TOPIC, 0), "a@example.com");
+        partitionDeduplicator.markProcessed(new TopicPartition(TOPIC, 0), "b@example.com");
+        partitionDeduplicator.markProcessed(new TopicPartition(TOPIC, 0), "c@example.com");
+
+        // then
+        assertThat(partitionDeduplicator.isDuplicate(new TopicPartition(TOPIC, 0), "a@example.com")).isFalse();
+        assertThat(partitionDeduplicator.isDuplicate(new TopicPartition(TOPIC, 0), "c@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("파티션이 회수되면 해당 파티션의 기록을 비운다.")
+    void onPartitionsRevoked_shouldForgetPartition() {
+        // given
+        partitionDeduplicator.markProcessed(new TopicPartition(TOPIC, 0), EMAIL);
+
+        // when
+        partitionDeduplicator.onPartitionsRevokedAfterCommit(null, List.of(new TopicPartition(TOPIC, 0)));
+
+        // then
+        assertThat(partitionDeduplicator.isDuplicate(new TopicPartition(TOPIC, 0), EMAIL)).isFalse();
+    }
+}
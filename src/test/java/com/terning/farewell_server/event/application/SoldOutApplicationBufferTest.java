@@ -0,0 +1,105 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.global.common.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SoldOutApplicationBufferTest {
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private ApplicationStatusCache applicationStatusCache;
+
+    @Mock
+    private RedisService redisService;
+
+    @InjectMocks
+    private SoldOutApplicationBuffer soldOutApplicationBuffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(soldOutApplicationBuffer, "batchSize", 2);
+        ReflectionTestUtils.setField(soldOutApplicationBuffer, "appliedMarkerPrefix", "event:applied:");
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 마감 이후 신청은 배치 크기 단위로 FAILURE로 일괄 저장된다.")
+    void flush_shouldSaveFailuresInBatches() {
+        // given
+        soldOutApplicationBuffer.add("a@example.com");
+        soldOutApplicationBuffer.add("b@example.com");
+        soldOutApplicationBuffer.add("c@example.com");
+        soldOutApplicationBuffer.add("a@example.com");
+
+        // when
+        soldOutApplicationBuffer.flush();
+
+        // then
+        verify(applicationService, times(2)).saveApplications(anyList());
+        assertThat(soldOutApplicationBuffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 저장에 실패하면 신청을 버퍼에 되돌려 다음 주기에 재시도한다.")
+    void flush_whenSaveFails_thenRequeue() {
+        // given
+        soldOutApplicationBuffer.add("a@example.com");
+        when(applicationService.saveApplications(List.of(ApplicationOutcome.of("a@example.com", ApplicationStatus.FAILURE))))
+                .thenThrow(new RuntimeException("DB 저장 실패"));
+
+        // when
+        soldOutApplicationBuffer.flush();
+
+        // then
+        assertThat(soldOutApplicationBuffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마감 전에 접수 표시가 남은 사용자는 한 번의 조회로 걸러 내고, 나머지만 FAILURE로 저장한다.")
+    void flush_shouldSkipUsersAppliedBeforeSoldOut() {
+        // given
+        ReflectionTestUtils.setField(soldOutApplicationBuffer, "batchSize", 10);
+        soldOutApplicationBuffer.add("winner@example.com");
+        soldOutApplicationBuffer.add("late@example.com");
+        when(redisService.multiGet(anyList())).thenReturn(Map.of("event:applied:winner@example.com", "1"));
+
+        // when
+        soldOutApplicationBuffer.flush();
+
+        // then
+        verify(redisService, times(1)).multiGet(anyList());
+        verify(applicationService, times(1)).saveApplications(List.of(ApplicationOutcome.of("late@example.com", ApplicationStatus.FAILURE)));
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어있으면 DB를 호출하지 않는다.")
+    void flush_withEmptyBuffer_shouldDoNothing() {
+        // when
+        soldOutApplicationBuffer.flush();
+
+        // then
+        verify(applicationService, never()).saveApplications(anyList());
+    }
+}
@@ -0,0 +1,151 @@
+package com.terning.farewell_server.event.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SoldOutGateTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private SoldOutGate soldOutGate;
+
+    private static final String GIFT_STOCK_KEY = "event:gift:stock:test";
+    private static final String SOLD_OUT_CHANNEL = "event:gift:sold-out:test";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(soldOutGate, "giftStockKey", GIFT_STOCK_KEY);
+        ReflectionTestUtils.setField(soldOutGate, "soldOutChannel", SOLD_OUT_CHANNEL);
+    }
+
+    @Test
+    @DisplayName("기동 시 재고가 0 이하이면, 마감 상태로 시작한다.")
+    void init_whenStockExhausted_thenSoldOut() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(GIFT_STOCK_KEY)).thenReturn("0");
+
+        // when
+        soldOutGate.init();
+
+        // then
+        assertThat(soldOutGate.isSoldOut()).isTrue();
+    }
+
+    @Test
+    @DisplayName("임대 모드에서 중앙 재고가 0이어도 살아 있는 임대가 있으면, 신청을 받은 상태로 시작한다.")
+    void init_withLiveLeases_thenStayOpen() {
+        // given
+        ReflectionTestUtils.setField(soldOutGate, "leaseEnabled", true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(GIFT_STOCK_KEY)).thenReturn("0");
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.count(eq(GIFT_STOCK_KEY + ":lease-deadlines"), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(2L);
+
+        // when
+        soldOutGate.init();
+
+        // then
+        assertThat(soldOutGate.isSoldOut()).isFalse();
+    }
+
+    @Test
+    @DisplayName("임대 모드에서 중앙 재고가 0이고 살아 있는 임대도 없으면, 마감 상태로 시작한다.")
+    void init_withoutLiveLeases_thenSoldOut() {
+        // given
+        ReflectionTestUtils.setField(soldOutGate, "leaseEnabled", true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(GIFT_STOCK_KEY)).thenReturn("0");
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.count(eq(GIFT_STOCK_KEY + ":lease-deadlines"), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(0L);
+
+        // when
+        soldOutGate.init();
+
+        // then
+        assertThat(soldOutGate.isSoldOut()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마감은 최초 한 번만 전파된다.")
+    void markSoldOut_shouldPublishOnlyOnce() {
+        // when
+        soldOutGate.markSoldOut();
+        soldOutGate.markSoldOut();
+
+        // then
+        assertThat(soldOutGate.isSoldOut()).isTrue();
+        verify(redisTemplate, times(1)).convertAndSend(SOLD_OUT_CHANNEL, SoldOutGate.SOLD_OUT_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("관리자 마감은 로컬 게이트가 이미 닫혀 있어도 매번 전파된다.")
+    void broadcastSoldOut_whenAlreadySoldOut_thenPublishAgain() {
+        // given
+        soldOutGate.markSoldOut();
+
+        // when
+        soldOutGate.broadcastSoldOut();
+
+        // then
+        assertThat(soldOutGate.isSoldOut()).isTrue();
+        verify(redisTemplate, times(2)).convertAndSend(SOLD_OUT_CHANNEL, SoldOutGate.SOLD_OUT_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 마감/재개 메시지를 수신하면 로컬 상태를 갱신한다.")
+    void onMessage_shouldUpdateLocalFlag() {
+        // when
+        soldOutGate.onMessage(message(SoldOutGate.SOLD_OUT_MESSAGE), null);
+
+        // then
+        assertThat(soldOutGate.isSoldOut()).isTrue();
+
+        // when
+        soldOutGate.onMessage(message(SoldOutGate.OPEN_MESSAGE), null);
+
+        // then
+        assertThat(soldOutGate.isSoldOut()).isFalse();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                SOLD_OUT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
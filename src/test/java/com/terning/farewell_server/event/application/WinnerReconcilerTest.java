@@ -0,0 +1,235 @@
+package com.terning.farewell_server.event.application;
+
+import com.terning.farewell_server.application.application.ApplicationService;
+import com.terning.farewell_server.application.domain.Application;
+import com.terning.farewell_server.application.domain.ApplicationOutcome;
+import com.terning.farewell_server.application.domain.ApplicationRepository;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.global.common.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WinnerReconcilerTest {
+
+    @Mock
+    private GiftStockManager giftStockManager;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationWriteBehindBuffer applicationWriteBehindBuffer;
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private ApplicationStatusCache applicationStatusCache;
+
+    @Mock
+    private RedisService redisService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WinnerReconciler winnerReconciler;
+
+    private static final String STORED = "stored@example.com";
+    private static final String MISSING = "missing@example.com";
+    private static final String PENDING = "pending@example.com";
+    private static final String RECENT = "recent@example.com";
+    private static final String LOCK_KEY = "event:gift:stock:reconcile-lock";
+    private static final long GRACE_MS = 30000L;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        winnerReconciler = new WinnerReconciler(
+                giftStockManager, applicationRepository, applicationWriteBehindBuffer,
+                applicationService, applicationStatusCache, redisService, meterRegistry);
+        ReflectionTestUtils.setField(winnerReconciler, "giftStockKey", "event:gift:stock");
+        ReflectionTestUtils.setField(winnerReconciler, "batchSize", 100);
+        ReflectionTestUtils.setField(winnerReconciler, "reconcileIntervalMs", 60000L);
+        ReflectionTestUtils.setField(winnerReconciler, "reconcileGraceMs", GRACE_MS);
+    }
+
+    @Test
+    @DisplayName("Redis 당첨자 중 DB에 없고 저장 대기 중도 아닌 사용자는 SUCCESS로 다시 저장 대기열에 넣는다.")
+    void reconcile_whenWinnerMissingInDb_thenRequeue() {
+        // given
+        winnerReconciler.init();
+        givenLockAcquired();
+        when(giftStockManager.scanWinners(100)).thenReturn(cursorOf(settled(STORED), settled(MISSING), settled(PENDING)));
+        when(applicationRepository.findAllByEmailIn(List.of(STORED, MISSING, PENDING)))
+                .thenReturn(List.of(Application.from(STORED, ApplicationStatus.SUCCESS)));
+        when(applicationWriteBehindBuffer.contains(PENDING)).thenReturn(true);
+        givenRoundCounts(1L, 3L);
+
+        // when
+        winnerReconciler.reconcile();
+
+        // then
+        verify(applicationWriteBehindBuffer, times(1)).add(ApplicationOutcome.of(MISSING, ApplicationStatus.SUCCESS));
+        verify(applicationWriteBehindBuffer, never()).add(ApplicationOutcome.of(PENDING, ApplicationStatus.SUCCESS));
+        assertThat(meterRegistry.get("event.write-behind.reconcile").tag("result", "missing").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("event.write-behind.reconcile").tag("result", "conflict").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 당첨자가 DB에 FAILURE로 저장되어 있으면 SUCCESS로 복구하고 상태 캐시도 갱신한다.")
+    void reconcile_whenWinnerStoredAsFailure_thenPromote() {
+        // given
+        winnerReconciler.init();
+        givenLockAcquired();
+        when(giftStockManager.scanWinners(100)).thenReturn(cursorOf(settled(STORED)));
+        when(applicationRepository.findAllByEmailIn(List.of(STORED)))
+                .thenReturn(List.of(Application.from(STORED, ApplicationStatus.FAILURE)));
+        when(applicationService.promoteToWinners(List.of(STORED))).thenReturn(List.of(STORED));
+        givenRoundCounts(1L, 1L);
+
+        // when
+        winnerReconciler.reconcile();
+
+        // then
+        verify(applicationWriteBehindBuffer, never()).add(any());
+        verify(applicationStatusCache, times(1)).putAll(List.of(ApplicationOutcome.of(STORED, ApplicationStatus.SUCCESS)));
+        assertThat(meterRegistry.get("event.write-behind.reconcile").tag("result", "repaired").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("event.write-behind.reconcile").tag("result", "conflict").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("이번 회차 DB 당첨 건수가 Redis 당첨자 집합보다 많으면 불일치로 기록한다.")
+    void reconcile_whenDbHasMoreWinners_thenCountConflicts() {
+        // given
+        winnerReconciler.init();
+        givenLockAcquired();
+        when(giftStockManager.scanWinners(100)).thenReturn(cursorOf(settled(STORED)));
+        when(applicationRepository.findAllByEmailIn(List.of(STORED)))
+                .thenReturn(List.of(Application.from(STORED, ApplicationStatus.SUCCESS)));
+        givenRoundCounts(2L, 1L);
+
+        // when
+        winnerReconciler.reconcile();
+
+        // then
+        verify(applicationService, never()).promoteToWinners(any());
+        assertThat(meterRegistry.get("event.write-behind.reconcile").tag("result", "conflict").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지나지 않은 당첨자는 다른 인스턴스에서 저장 대기 중일 수 있으므로 점검하지 않는다.")
+    void reconcile_whenWinnerDecidedWithinGrace_thenSkip() {
+        // given
+        winnerReconciler.init();
+        givenLockAcquired();
+        when(giftStockManager.scanWinners(100)).thenReturn(cursorOf(settled(STORED), recent(RECENT)));
+        when(applicationRepository.findAllByEmailIn(List.of(STORED)))
+                .thenReturn(List.of(Application.from(STORED, ApplicationStatus.SUCCESS)));
+        givenRoundCounts(1L, 1L);
+
+        // when
+        winnerReconciler.reconcile();
+
+        // then
+        verify(applicationWriteBehindBuffer, never()).add(any());
+        assertThat(meterRegistry.get("event.write-behind.reconcile").tag("result", "missing").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("관리자가 재고를 재설정한 직후에는 이전 회차 DB 당첨 건수와 비교하지 않는다.")
+    void reconcile_rightAfterReset_thenSkipCountCheck() {
+        // given
+        winnerReconciler.init();
+        givenLockAcquired();
+        when(giftStockManager.scanWinners(100)).thenReturn(cursorOf(recent(RECENT)));
+        when(giftStockManager.getRoundStartedAt()).thenReturn(System.currentTimeMillis());
+
+        // when
+        winnerReconciler.reconcile();
+
+        // then
+        verify(applicationRepository, never()).countByStatusAndUpdatedAtBetween(any(), any(), any());
+        assertThat(meterRegistry.get("event.write-behind.reconcile").tag("result", "conflict").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 이번 주기의 점검 잠금을 잡았으면 점검하지 않는다.")
+    void reconcile_whenLockHeldByOtherNode_thenSkip() {
+        // given
+        winnerReconciler.init();
+        when(redisService.setDataIfAbsent(eq(LOCK_KEY), any(), eq(Duration.ofMillis(60000L)))).thenReturn(false);
+
+        // when
+        winnerReconciler.reconcile();
+
+        // then
+        verify(giftStockManager, never()).scanWinners(anyInt());
+    }
+
+    @Test
+    @DisplayName("재고 임대 모드와 함께 켜면 시작 시 예외가 발생한다.")
+    void init_withLeaseEnabled_shouldThrowException() {
+        // given
+        when(giftStockManager.isLeaseEnabled()).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> winnerReconciler.init()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void givenLockAcquired() {
+        when(redisService.setDataIfAbsent(eq(LOCK_KEY), any(), eq(Duration.ofMillis(60000L)))).thenReturn(true);
+    }
+
+    private void givenRoundCounts(long storedWinners, long redisWinners) {
+        when(giftStockManager.getRoundStartedAt()).thenReturn(0L);
+        when(applicationRepository.countByStatusAndUpdatedAtBetween(eq(ApplicationStatus.SUCCESS), any(), any()))
+                .thenReturn(storedWinners);
+        when(giftStockManager.countWinnersDecidedBetween(eq(GRACE_MS), anyLong())).thenReturn(redisWinners);
+    }
+
+    private ZSetOperations.TypedTuple<String> settled(String email) {
+        return new DefaultTypedTuple<>(email, (double) (System.currentTimeMillis() - GRACE_MS * 2));
+    }
+
+    private ZSetOperations.TypedTuple<String> recent(String email) {
+        return new DefaultTypedTuple<>(email, (double) System.currentTimeMillis());
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private Cursor<ZSetOperations.TypedTuple<String>> cursorOf(ZSetOperations.TypedTuple<String>... winners) {
+        Cursor<ZSetOperations.TypedTuple<String>> cursor = mock(Cursor.class);
+        Boolean[] hasNextResults = new Boolean[winners.length];
+        for (int i = 0; i < winners.length; i++) {
+            hasNextResults[i] = i < winners.length - 1;
+        }
+        when(cursor.hasNext()).thenReturn(true, hasNextResults);
+        ZSetOperations.TypedTuple<String>[] rest = new ZSetOperations.TypedTuple[winners.length - 1];
+        System.arraycopy(winners, 1, rest, 0, rest.length);
+        when(cursor.next()).thenReturn(winners[0], rest);
+        return cursor;
+    }
+}
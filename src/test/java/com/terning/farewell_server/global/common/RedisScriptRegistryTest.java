@@ -0,0 +1,145 @@
+package com.terning.farewell_server.global.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisScriptRegistryTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisScriptRegistry redisScriptRegistry;
+
+    private static final String SCRIPT_NAME = "test-script";
+    private static final String SCRIPT_TEXT = "return 1";
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        redisScriptRegistry = new RedisScriptRegistry(redisTemplate, meterRegistry);
+        lenient().when(redisTemplate.getKeySerializer()).thenReturn((RedisSerializer) RedisSerializer.string());
+        lenient().when(redisTemplate.getValueSerializer()).thenReturn((RedisSerializer) RedisSerializer.string());
+        lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        lenient().when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, RedisCallback.class).doInRedis(connection));
+    }
+
+    @Test
+    @DisplayName("같은 이름으로 다시 등록하면 기존 스크립트를 그대로 돌려준다.")
+    void register_withSameName_shouldReturnSameScript() {
+        // when
+        RedisScript<Long> first = redisScriptRegistry.register(SCRIPT_NAME, SCRIPT_TEXT, Long.class);
+        RedisScript<Long> second = redisScriptRegistry.register(SCRIPT_NAME, SCRIPT_TEXT, Long.class);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("같은 이름에 다른 내용의 스크립트를 등록하면 예외가 발생한다.")
+    void register_withConflictingScript_shouldThrowException() {
+        // given
+        redisScriptRegistry.register(SCRIPT_NAME, SCRIPT_TEXT, Long.class);
+
+        // when & then
+        assertThatThrownBy(() -> redisScriptRegistry.register(SCRIPT_NAME, "return 2", Long.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 시작 시 등록된 스크립트를 모두 SCRIPT LOAD로 적재한다.")
+    void preload_shouldLoadAllRegisteredScripts() {
+        // given
+        redisScriptRegistry.register(SCRIPT_NAME, SCRIPT_TEXT, Long.class);
+        redisScriptRegistry.register("other-script", "return 2", Long.class);
+
+        // when
+        redisScriptRegistry.preload();
+
+        // then
+        verify(scriptingCommands, times(2)).scriptLoad(any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("스크립트는 본문 없이 EVALSHA로 실행하고, 실행 시간을 스크립트별로 기록한다.")
+    void execute_shouldUseEvalShaAndRecordLatency() {
+        // given
+        RedisScript<Long> script = redisScriptRegistry.register(SCRIPT_NAME, SCRIPT_TEXT, Long.class);
+        when(scriptingCommands.evalSha(eq(script.getSha1()), eq(ReturnType.INTEGER), anyInt(), any(byte[][].class)))
+                .thenReturn(1L);
+
+        // when
+        Long result = redisScriptRegistry.execute(script, List.of("key"));
+
+        // then
+        assertThat(result).isEqualTo(1L);
+        verify(scriptingCommands, never()).eval(any(byte[].class), any(), anyInt(), any(byte[][].class));
+        assertThat(meterRegistry.get("redis.script").tag("script", SCRIPT_NAME).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis에 스크립트가 없으면(NOSCRIPT) 다시 적재한 뒤 EVALSHA로 재실행한다.")
+    void execute_whenNoScript_shouldReloadAndRetry() {
+        // given
+        RedisScript<Long> script = redisScriptRegistry.register(SCRIPT_NAME, SCRIPT_TEXT, Long.class);
+        when(scriptingCommands.evalSha(eq(script.getSha1()), eq(ReturnType.INTEGER), anyInt(), any(byte[][].class)))
+                .thenThrow(new RedisSystemException("NOSCRIPT No matching script.", null))
+                .thenReturn(1L);
+
+        // when
+        Long result = redisScriptRegistry.execute(script, List.of("key"));
+
+        // then
+        assertThat(result).isEqualTo(1L);
+        verify(scriptingCommands, times(1)).scriptLoad(any(byte[].class));
+        verify(scriptingCommands, never()).eval(any(byte[].class), any(), anyInt(), any(byte[][].class));
+        assertThat(meterRegistry.get("redis.script.reloads").tag("script", SCRIPT_NAME).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 스크립트는 실행할 수 없다.")
+    void execute_withUnregisteredScript_shouldThrowException() {
+        // given
+        RedisScript<Long> script = new DefaultRedisScript<>(SCRIPT_TEXT, Long.class);
+
+        // when & then
+        assertThatThrownBy(() -> redisScriptRegistry.execute(script, List.of("key")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
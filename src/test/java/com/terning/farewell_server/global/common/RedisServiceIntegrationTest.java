@@ -8,8 +8,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -20,6 +29,9 @@ class RedisServiceIntegrationTest extends IntegrationTestSupport {
     @Autowired
     private RedisService redisService;
 
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
     @TestConfiguration
     static class TestConfig {
         @Bean
@@ -65,6 +77,24 @@ class RedisServiceIntegrationTest extends IntegrationTestSupport {
         assertThat(result).isNull();
     }
 
+    @Test
+    @DisplayName("키가 없을 때만 값을 저장하고, 이미 있으면 기존 값을 유지한다.")
+    void setDataIfAbsent_should_save_only_once() {
+        // given
+        String key = "nx:key";
+        redisService.deleteData(key);
+
+        // when
+        boolean first = redisService.setDataIfAbsent(key, "first", Duration.ofMinutes(1));
+        boolean second = redisService.setDataIfAbsent(key, "second", Duration.ofMinutes(1));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(redisService.getData(key)).isEqualTo("first");
+        assertThat(redisTemplate.getExpire(key)).isPositive();
+    }
+
     @Test
     @DisplayName("데이터를 삭제하면 정상적으로 제거된다.")
     void deleteData_should_remove_data() {
@@ -79,4 +109,144 @@ class RedisServiceIntegrationTest extends IntegrationTestSupport {
         // then
         assertThat(redisService.getData(key)).isNull();
     }
+
+    @Test
+    @DisplayName("저장된 값과 일치하면 한 번에 비교 후 삭제하고, 같은 값으로 다시 요청하면 실패한다.")
+    void compareAndDelete_should_consume_value_only_once() {
+        // given
+        String key = "cad:key";
+        String attemptsKey = "cad:attempts";
+        redisService.setDataWithExpiration(key, "123456", Duration.ofMinutes(1));
+
+        // when
+        CompareAndDeleteResult first = redisService.compareAndDelete(key, "123456", attemptsKey, 5, Duration.ofMinutes(1));
+        CompareAndDeleteResult second = redisService.compareAndDelete(key, "123456", attemptsKey, 5, Duration.ofMinutes(1));
+
+        // then
+        assertThat(first).isEqualTo(CompareAndDeleteResult.MATCHED);
+        assertThat(second).isEqualTo(CompareAndDeleteResult.NOT_FOUND);
+        assertThat(redisService.getData(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("동시에 같은 값으로 요청해도 단 한 번만 성공한다.")
+    void compareAndDelete_concurrently_should_match_only_once() throws Exception {
+        // given
+        String key = "cad:concurrent:key";
+        String attemptsKey = "cad:concurrent:attempts";
+        redisService.setDataWithExpiration(key, "123456", Duration.ofMinutes(1));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        Callable<CompareAndDeleteResult> task = () -> redisService.compareAndDelete(key, "123456", attemptsKey, 5, Duration.ofMinutes(1));
+
+        // when
+        List<Future<CompareAndDeleteResult>> futures = executorService.invokeAll(Collections.nCopies(8, task));
+        executorService.shutdown();
+
+        // then
+        long matched = 0;
+        for (Future<CompareAndDeleteResult> future : futures) {
+            if (future.get() == CompareAndDeleteResult.MATCHED) {
+                matched++;
+            }
+        }
+        assertThat(matched).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 틀리면 값을 삭제하고, 이후 요청은 잠금 상태를 반환한다.")
+    void compareAndDelete_should_lock_after_max_attempts() {
+        // given
+        String key = "cad:lock:key";
+        String attemptsKey = "cad:lock:attempts";
+        redisService.setDataWithExpiration(key, "123456", Duration.ofMinutes(1));
+
+        // when
+        CompareAndDeleteResult firstMiss = redisService.compareAndDelete(key, "000000", attemptsKey, 2, Duration.ofMinutes(1));
+        CompareAndDeleteResult secondMiss = redisService.compareAndDelete(key, "111111", attemptsKey, 2, Duration.ofMinutes(1));
+        CompareAndDeleteResult afterLock = redisService.compareAndDelete(key, "123456", attemptsKey, 2, Duration.ofMinutes(1));
+
+        // then
+        assertThat(firstMiss).isEqualTo(CompareAndDeleteResult.MISMATCHED);
+        assertThat(secondMiss).isEqualTo(CompareAndDeleteResult.MISMATCHED);
+        assertThat(afterLock).isEqualTo(CompareAndDeleteResult.LOCKED);
+        assertThat(redisService.getData(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 키를 한 번에 조회하면 존재하는 키만 요청 순서대로 반환한다.")
+    void multiGet_should_return_only_existing_keys() {
+        // given
+        redisService.setDataWithExpiration("multi:a", "1", Duration.ofMinutes(1));
+        redisService.setDataWithExpiration("multi:c", "3", Duration.ofMinutes(1));
+
+        // when
+        Map<String, String> result = redisService.multiGet(List.of("multi:a", "multi:b", "multi:c"));
+
+        // then
+        assertThat(result).containsExactly(Map.entry("multi:a", "1"), Map.entry("multi:c", "3"));
+    }
+
+    @Test
+    @DisplayName("여러 키를 파이프라인으로 저장하면 모두 같은 만료 시간을 가진다.")
+    void setAllWithExpiration_should_save_all_with_ttl() {
+        // given
+        Map<String, String> entries = Map.of("pipeline:a", "1", "pipeline:b", "2");
+
+        // when
+        redisService.setAllWithExpiration(entries, Duration.ofMinutes(1));
+
+        // then
+        assertThat(redisService.multiGet(List.of("pipeline:a", "pipeline:b"))).isEqualTo(entries);
+        assertThat(redisTemplate.getExpire("pipeline:a")).isPositive();
+        assertThat(redisTemplate.getExpire("pipeline:b")).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 키를 한 번에 삭제한다.")
+    void deleteAll_should_remove_all_keys() {
+        // given
+        redisService.setAllWithExpiration(Map.of("bulk:a", "1", "bulk:b", "2"), Duration.ofMinutes(1));
+
+        // when
+        redisService.deleteAll(List.of("bulk:a", "bulk:b"));
+
+        // then
+        assertThat(redisService.multiGet(List.of("bulk:a", "bulk:b"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두사가 같은 키만 나누어 삭제하고, 삭제한 개수를 반환한다.")
+    void deleteByPrefix_should_remove_only_matching_keys() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            redisService.setDataWithExpiration("prefix:target:" + i, "1", Duration.ofMinutes(1));
+        }
+        redisService.setDataWithExpiration("prefix:other", "1", Duration.ofMinutes(1));
+
+        // when
+        long deleted = redisService.deleteByPrefix("prefix:target:", 2);
+
+        // then
+        assertThat(deleted).isEqualTo(5);
+        assertThat(redisTemplate.keys("prefix:target:*")).isEmpty();
+        assertThat(redisService.getData("prefix:other")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Redis의 스크립트 캐시가 비워져도 스크립트를 다시 적재해 실행한다.")
+    void compareAndDelete_after_script_flush_should_reload_script() {
+        // given
+        String key = "cad:flush:key";
+        redisService.setDataWithExpiration(key, "123456", Duration.ofMinutes(1));
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+
+        // when
+        CompareAndDeleteResult result = redisService.compareAndDelete(key, "123456", "cad:flush:attempts", 5, Duration.ofMinutes(1));
+
+        // then
+        assertThat(result).isEqualTo(CompareAndDeleteResult.MATCHED);
+    }
 }
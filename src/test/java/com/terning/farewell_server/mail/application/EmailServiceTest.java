@@ -2,7 +2,6 @@ package com.terning.farewell_server.mail.application;
 
 import com.terning.farewell_server.mail.exception.MailErrorCode;
 import com.terning.farewell_server.mail.exception.MailException;
-import jakarta.mail.Address;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
@@ -13,23 +12,35 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailParseException;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Properties;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,7 +51,16 @@ class EmailServiceTest {
     private JavaMailSender javaMailSender;
 
     @Mock
-    private SpringTemplateEngine templateEngine;
+    private MailTemplateCache mailTemplateCache;
+
+    @Mock
+    private SmtpTransportPool smtpTransportPool;
+
+    @Mock
+    private MailRateLimiter mailRateLimiter;
+
+    @Mock
+    private MailScheduler mailScheduler;
 
     @InjectMocks
     private EmailService emailService;
@@ -53,10 +73,22 @@ class EmailServiceTest {
     private static final String VERIFICATION_EMAIL_SUBJECT = "[터닝] 마지막 선물 신청을 위한 인증 코드입니다.";
     private static final String CONFIRMATION_EMAIL_SUBJECT = "[터닝] 선물 신청이 확정되었습니다.";
 
+    private final Session session = Session.getInstance(new Properties());
+
     @BeforeEach
-    void setUp() {
+    void setUp() throws MessagingException, IOException {
         ReflectionTestUtils.setField(emailService, "fromEmail", FROM_EMAIL);
-        when(templateEngine.process(anyString(), any(Context.class))).thenReturn(MOCK_HTML_CONTENT);
+        when(mailTemplateCache.getConfirmationBody()).thenReturn(MOCK_HTML_CONTENT);
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+        when(javaMailSender.createMimeMessage(any(InputStream.class)))
+                .thenAnswer(invocation -> new MimeMessage(session, invocation.getArgument(0, InputStream.class)));
+        lenient().doAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return null;
+        }).when(mailScheduler).run(any(MailLane.class), any(Runnable.class));
+        lenient().when(mailScheduler.execute(any(MailLane.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, Supplier.class).get());
+        emailService.init();
     }
 
     @Test
@@ -65,7 +97,7 @@ class EmailServiceTest {
         // given
         String toEmail = "test@example.com";
         String code = "123456";
-        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
+        when(mailTemplateCache.renderVerificationBody(code)).thenReturn(MOCK_HTML_CONTENT);
 
         // when
         emailService.sendVerificationCode(toEmail, code);
@@ -81,18 +113,16 @@ class EmailServiceTest {
 
     @Test
     @DisplayName("확정 이메일 발송 시 @example.com 이메일은 SES 시뮬레이터 주소로 변경되어야 한다.")
-    void sendConfirmationEmail_withTestEmail_shouldChangeToSimulatorAddress() throws MessagingException {
+    void sendConfirmationEmails_withTestEmail_shouldChangeToSimulatorAddress() throws MessagingException {
         // given
         String testEmail = "test@example.com";
         String expectedTargetEmail = "test+success@simulator.amazonses.com";
-        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
 
         // when
-        emailService.sendConfirmationEmail(testEmail);
+        emailService.sendConfirmationEmails(List.of(testEmail));
 
         // then
-        verify(javaMailSender).send(mimeMessageCaptor.capture());
-        MimeMessage capturedMessage = mimeMessageCaptor.getValue();
+        MimeMessage capturedMessage = captureSentMessages()[0];
 
         assertThat(capturedMessage.getSubject()).isEqualTo(CONFIRMATION_EMAIL_SUBJECT);
         assertThat(capturedMessage.getRecipients(Message.RecipientType.TO)[0].toString()).isEqualTo(expectedTargetEmail);
@@ -101,17 +131,15 @@ class EmailServiceTest {
 
     @Test
     @DisplayName("확정 이메일 발송 시 일반 이메일은 원래 주소 그대로 발송되어야 한다.")
-    void sendConfirmationEmail_withRealEmail_shouldKeepOriginalAddress() throws MessagingException {
+    void sendConfirmationEmails_withRealEmail_shouldKeepOriginalAddress() throws MessagingException {
         // given
         String realEmail = "user@realdomain.com";
-        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
 
         // when
-        emailService.sendConfirmationEmail(realEmail);
+        emailService.sendConfirmationEmails(List.of(realEmail));
 
         // then
-        verify(javaMailSender).send(mimeMessageCaptor.capture());
-        MimeMessage capturedMessage = mimeMessageCaptor.getValue();
+        MimeMessage capturedMessage = captureSentMessages()[0];
 
         assertThat(capturedMessage.getSubject()).isEqualTo(CONFIRMATION_EMAIL_SUBJECT);
         assertThat(capturedMessage.getRecipients(Message.RecipientType.TO)[0].toString()).isEqualTo(realEmail);
@@ -120,28 +148,205 @@ class EmailServiceTest {
 
     @Test
     @DisplayName("확정 이메일 발송 시 @가 없는 이메일은 변환 없이 그대로 보내져야 한다.")
-    void sendConfirmationEmail_withInvalidEmail_shouldNotTransform() throws MessagingException {
+    void sendConfirmationEmails_withInvalidEmail_shouldNotTransform() throws MessagingException {
         // given
         String invalidEmail = "invalid-email";
-        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
 
         // when
-        emailService.sendConfirmationEmail(invalidEmail);
+        emailService.sendConfirmationEmails(List.of(invalidEmail));
 
         // then
-        verify(javaMailSender).send(mimeMessageCaptor.capture());
-        MimeMessage capturedMessage = mimeMessageCaptor.getValue();
+        MimeMessage capturedMessage = captureSentMessages()[0];
         assertThat(capturedMessage.getRecipients(Message.RecipientType.TO)[0].toString()).isEqualTo(invalidEmail);
     }
 
     @Test
-    @DisplayName("MimeMessageHelper 작업 실패 시 커스텀 MailException을 던져야 한다.")
-    void sendEmail_should_throw_CustomMailException_when_MimeHelperFails() throws MessagingException {
+    @DisplayName("확정 이메일은 매번 미리 만들어 둔 메시지를 복제하며, 템플릿을 다시 렌더링하지 않는다.")
+    void sendConfirmationEmails_shouldReusePrebuiltMessage() throws MessagingException, IOException {
+        // when
+        emailService.sendConfirmationEmails(List.of("first@realdomain.com", "second@realdomain.com"));
+
+        // then
+        MimeMessage[] sentMessages = captureSentMessages();
+        MimeMessage first = sentMessages[0];
+        MimeMessage second = sentMessages[1];
+
+        assertThat(first.getRecipients(Message.RecipientType.TO)[0].toString()).isEqualTo("first@realdomain.com");
+        assertThat(second.getRecipients(Message.RecipientType.TO)).hasSize(1);
+        assertThat(second.getContent()).isEqualTo(MOCK_HTML_CONTENT);
+        assertThat(first.getMessageID()).isNull();
+        verify(mailTemplateCache, times(1)).getConfirmationBody();
+    }
+
+    @Test
+    @DisplayName("확정 이메일 일괄 발송 시, 메시지를 한 건씩 발송한다.")
+    void sendConfirmationEmails_shouldSendEachMessage() {
+        // when
+        ConfirmationSendResult result = emailService.sendConfirmationEmails(List.of("a@realdomain.com", "b@realdomain.com"));
+
+        // then
+        assertThat(captureSentMessages()).hasSize(2);
+        assertThat(result.failedEmails()).isEmpty();
+        assertThat(result.deferredEmails()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 발송 중 일부 메시지가 실패하면, 실패한 원래 수신자 주소를 반환한다.")
+    void sendConfirmationEmails_whenPartiallyFailed_shouldReturnFailedRecipients() {
+        // given
+        doNothing()
+                .doThrow(new MailSendException("Simulated rejection"))
+                .when(javaMailSender).send(any(MimeMessage.class));
+
+        // when
+        ConfirmationSendResult result = emailService.sendConfirmationEmails(List.of("a@realdomain.com", "b@example.com"));
+
+        // then
+        assertThat(result.failedEmails()).containsExactly("b@example.com");
+    }
+
+    @Test
+    @DisplayName("SMTP 연결 풀이 활성화되면, 묶음 전체를 한 번의 발송 슬롯에서 하나의 연결로 보낸다.")
+    void sendConfirmationEmails_withPool_shouldSendBatchOverOneConnection() {
+        // given
+        when(smtpTransportPool.isEnabled()).thenReturn(true);
+        when(smtpTransportPool.sendAll(anyList(), any(Runnable.class))).thenAnswer(invocation -> {
+            List<MimeMessage> messages = invocation.getArgument(0);
+            return new BulkSendResult(messages.size(), List.of(), List.of());
+        });
+
+        // when
+        ConfirmationSendResult result = emailService.sendConfirmationEmails(List.of("a@realdomain.com", "b@realdomain.com"));
+
+        // then
+        assertThat(result.failedEmails()).isEmpty();
+        assertThat(result.deferredEmails()).isEmpty();
+        verify(mailScheduler, times(1)).execute(eq(MailLane.CONFIRMATION), any());
+        verify(smtpTransportPool, times(1)).sendAll(argThat(messages -> messages.size() == 2), any(Runnable.class));
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("연결 풀로 일괄 발송할 때 메시지마다 토큰을 받고, 보내지 못한 메시지는 원래 수신자 주소로 돌려준다.")
+    void sendConfirmationEmails_withPool_shouldMapFailedAndDeferredMessagesToRecipients() {
+        // given
+        when(smtpTransportPool.isEnabled()).thenReturn(true);
+        when(smtpTransportPool.sendAll(anyList(), any(Runnable.class))).thenAnswer(invocation -> {
+            List<MimeMessage> messages = invocation.getArgument(0);
+            invocation.getArgument(1, Runnable.class).run();
+            return new BulkSendResult(0, List.of(messages.get(0)), List.copyOf(messages.subList(1, messages.size())));
+        });
+
+        // when
+        ConfirmationSendResult result = emailService.sendConfirmationEmails(
+                List.of("a@example.com", "b@realdomain.com", "c@realdomain.com"));
+
+        // then
+        assertThat(result.failedEmails()).containsExactly("a@example.com");
+        assertThat(result.deferredEmails()).containsExactly("b@realdomain.com", "c@realdomain.com");
+        verify(mailRateLimiter, times(1)).acquire(MailLane.CONFIRMATION);
+    }
+
+    @Test
+    @DisplayName("연결 풀의 연결을 빌리지 못하면, 묶음 전체를 보류로 반환한다.")
+    void sendConfirmationEmails_withPoolExhausted_thenDeferWholeBatch() {
         // given
-        MimeMessage mockMimeMessage = mock(MimeMessage.class);
-        when(javaMailSender.createMimeMessage()).thenReturn(mockMimeMessage);
-        doThrow(new MessagingException("Simulated MimeMessage failure"))
-                .when(mockMimeMessage).setFrom(any(Address.class));
+        when(smtpTransportPool.isEnabled()).thenReturn(true);
+        when(smtpTransportPool.sendAll(anyList(), any(Runnable.class)))
+                .thenThrow(new MailException(MailErrorCode.SMTP_POOL_EXHAUSTED));
+
+        // when
+        ConfirmationSendResult result = emailService.sendConfirmationEmails(List.of("a@realdomain.com", "b@realdomain.com"));
+
+        // then
+        assertThat(result.failedEmails()).isEmpty();
+        assertThat(result.deferredEmails()).containsExactly("a@realdomain.com", "b@realdomain.com");
+    }
+
+    @Test
+    @DisplayName("확정 이메일 일괄 발송 시, 메시지마다 발송 직전에 확정 메일 버킷에서 토큰을 하나씩 받는다.")
+    void sendConfirmationEmails_shouldAcquirePermitRightBeforeEachMessage() {
+        // when
+        emailService.sendConfirmationEmails(List.of("a@realdomain.com", "b@realdomain.com"));
+
+        // then
+        InOrder inOrder = inOrder(mailRateLimiter, javaMailSender);
+        inOrder.verify(mailRateLimiter).acquire(MailLane.CONFIRMATION);
+        inOrder.verify(javaMailSender).send(any(MimeMessage.class));
+        inOrder.verify(mailRateLimiter).acquire(MailLane.CONFIRMATION);
+        inOrder.verify(javaMailSender).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("일괄 발송 중 발송 한도에 도달하면, 남은 수신자는 실패가 아닌 보류로 반환한다.")
+    void sendConfirmationEmails_whenRateLimitedMidBatch_thenDeferRemaining() {
+        // given
+        doNothing()
+                .doThrow(new MailException(MailErrorCode.MAIL_RATE_LIMITED))
+                .when(mailRateLimiter).acquire(MailLane.CONFIRMATION);
+
+        // when
+        ConfirmationSendResult result = emailService.sendConfirmationEmails(
+                List.of("a@realdomain.com", "b@realdomain.com", "c@realdomain.com"));
+
+        // then
+        assertThat(result.failedEmails()).isEmpty();
+        assertThat(result.deferredEmails()).containsExactly("b@realdomain.com", "c@realdomain.com");
+        verify(javaMailSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("발송 슬롯을 얻지 못하면 발송 한도 토큰을 쓰지 않고, 남은 수신자를 보류로 반환한다.")
+    void sendConfirmationEmails_whenSchedulerRejects_thenKeepRatePermits() {
+        // given
+        when(mailScheduler.execute(eq(MailLane.CONFIRMATION), any()))
+                .thenThrow(new MailException(MailErrorCode.SMTP_POOL_EXHAUSTED));
+
+        // when
+        ConfirmationSendResult result = emailService.sendConfirmationEmails(List.of("a@realdomain.com", "b@realdomain.com"));
+
+        // then
+        assertThat(result.deferredEmails()).containsExactly("a@realdomain.com", "b@realdomain.com");
+        verify(mailRateLimiter, never()).acquire(any(MailLane.class));
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("인증 메일은 인증 레인으로, 확정 메일은 확정 레인으로 스케줄링된다.")
+    void send_shouldScheduleOnMatchingLane() {
+        // given
+        when(mailTemplateCache.renderVerificationBody("123456")).thenReturn(MOCK_HTML_CONTENT);
+
+        // when
+        emailService.sendVerificationCode("test@example.com", "123456");
+        emailService.sendConfirmationEmails(List.of("a@realdomain.com"));
+
+        // then
+        verify(mailScheduler, times(1)).run(eq(MailLane.VERIFICATION), any(Runnable.class));
+        verify(mailScheduler, times(1)).execute(eq(MailLane.CONFIRMATION), any());
+    }
+
+    @Test
+    @DisplayName("발송 한도를 초과하면, 메일을 보내지 않고 MAIL_RATE_LIMITED 예외를 던진다.")
+    void sendVerificationCode_whenRateLimited_thenThrowWithoutSending() {
+        // given
+        doThrow(new MailException(MailErrorCode.MAIL_RATE_LIMITED))
+                .when(mailRateLimiter).acquire(MailLane.VERIFICATION);
+
+        // when & then
+        assertThatThrownBy(() -> emailService.sendVerificationCode("test@example.com", "123456"))
+                .isInstanceOf(MailException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.MAIL_RATE_LIMITED);
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("미리 만들어 둔 메시지 복제 실패 시 커스텀 MailException을 던져야 한다.")
+    void sendEmail_should_throw_CustomMailException_when_PrototypeCopyFails() {
+        // given
+        when(mailTemplateCache.renderVerificationBody("123")).thenReturn(MOCK_HTML_CONTENT);
+        when(javaMailSender.createMimeMessage(any(InputStream.class)))
+                .thenThrow(new MailParseException("Simulated MimeMessage failure"));
 
         // when & then
         assertThatThrownBy(() -> emailService.sendVerificationCode("fail@example.com", "123"))
@@ -153,7 +358,7 @@ class EmailServiceTest {
     @DisplayName("JavaMailSender.send() 실패 시 커스텀 MailException을 던져야 한다.")
     void sendEmail_should_throw_CustomMailException_when_SenderFails() {
         // given
-        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
+        when(mailTemplateCache.renderVerificationBody("123")).thenReturn(MOCK_HTML_CONTENT);
         doThrow(new MailSendException("Simulated sender failure"))
                 .when(javaMailSender).send(any(MimeMessage.class));
 
@@ -162,4 +367,9 @@ class EmailServiceTest {
                 .isInstanceOf(MailException.class)
                 .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.EMAIL_SEND_FAILURE);
     }
+
+    private MimeMessage[] captureSentMessages() {
+        verify(javaMailSender, atLeastOnce()).send(mimeMessageCaptor.capture());
+        return mimeMessageCaptor.getAllValues().toArray(new MimeMessage[0]);
+    }
 }
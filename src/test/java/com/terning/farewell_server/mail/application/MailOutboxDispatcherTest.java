@@ -0,0 +1,194 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.domain.MailOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private EmailService emailService;
+
+    private final List<Runnable> handedOff = new ArrayList<>();
+    private boolean runInline;
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    private static final String WINNER = "winner@example.com";
+    private static final String BOUNCED = "bounced@example.com";
+
+    @BeforeEach
+    void setUp() {
+        runInline = true;
+        Executor mailOutboxExecutor = task -> {
+            if (runInline) {
+                task.run();
+            } else {
+                handedOff.add(task);
+            }
+        };
+        mailOutboxDispatcher = new MailOutboxDispatcher(mailOutboxService, emailService, mailOutboxExecutor);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "enabled", true);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "batchSize", 50);
+    }
+
+    @Test
+    @DisplayName("가져온 메일을 한 번에 발송하고, 실패한 수신자만 재시도 대상으로 반영한다.")
+    void dispatch_shouldSendClaimedMailsAndReportFailures() {
+        // given
+        when(mailOutboxService.claim(50)).thenReturn(List.of(outbox(1L, WINNER), outbox(2L, BOUNCED)));
+        when(emailService.sendConfirmationEmails(List.of(WINNER, BOUNCED))).thenReturn(new ConfirmationSendResult(List.of(BOUNCED), List.of()));
+
+        // when
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        verify(mailOutboxService, times(1)).complete(List.of(1L, 2L), Set.of(BOUNCED));
+    }
+
+    @Test
+    @DisplayName("발송 중 예외가 발생하면, 가져온 메일 전체를 재시도 대상으로 반영한다.")
+    void dispatch_whenSendThrows_thenRetryAll() {
+        // given
+        when(mailOutboxService.claim(50)).thenReturn(List.of(outbox(1L, WINNER), outbox(2L, BOUNCED)));
+        when(emailService.sendConfirmationEmails(anyList())).thenThrow(new MailSendException("SMTP 연결 실패"));
+
+        // when
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        verify(mailOutboxService, times(1)).complete(List.of(1L, 2L), Set.of(WINNER, BOUNCED));
+    }
+
+    @Test
+    @DisplayName("발송 한도에 도달하면, 실패로 기록하지 않고 임대를 풀어 다음 주기에 다시 발송한다.")
+    void dispatch_whenRateLimited_thenReleaseWithoutCountingAttempt() {
+        // given
+        when(mailOutboxService.claim(50)).thenReturn(List.of(outbox(1L, WINNER)));
+        when(emailService.sendConfirmationEmails(anyList())).thenReturn(new ConfirmationSendResult(List.of(), List.of(WINNER)));
+
+        // when
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        verify(mailOutboxService, times(1)).release(List.of(1L));
+        verify(mailOutboxService, never()).complete(anyList(), anySet());
+    }
+
+    @Test
+    @DisplayName("일부만 보낸 뒤 발송 한도에 도달하면, 보낸 메일은 완료 처리하고 남은 메일만 임대를 푼다.")
+    void dispatch_whenRateLimitedMidBatch_thenReleaseOnlyDeferred() {
+        // given
+        when(mailOutboxService.claim(50)).thenReturn(List.of(outbox(1L, WINNER), outbox(2L, BOUNCED)));
+        when(emailService.sendConfirmationEmails(anyList())).thenReturn(new ConfirmationSendResult(List.of(), List.of(BOUNCED)));
+
+        // when
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        verify(mailOutboxService, times(1)).complete(List.of(1L), Set.of());
+        verify(mailOutboxService, times(1)).release(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("스케줄러 스레드는 메일을 가져와 발송 스레드에 넘기기만 하고, 발송이 끝날 때까지 다음 배치를 가져오지 않는다.")
+    void dispatch_shouldHandOffSendAndNotBlockScheduler() {
+        // given
+        runInline = false;
+        when(mailOutboxService.claim(50)).thenReturn(List.of(outbox(1L, WINNER)));
+        when(emailService.sendConfirmationEmails(List.of(WINNER))).thenReturn(new ConfirmationSendResult(List.of(), List.of()));
+
+        // when
+        mailOutboxDispatcher.dispatch();
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        assertThat(handedOff).hasSize(1);
+        verify(mailOutboxService, times(1)).claim(anyInt());
+        verify(emailService, never()).sendConfirmationEmails(anyList());
+
+        // when
+        handedOff.get(0).run();
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        verify(mailOutboxService, times(1)).complete(List.of(1L), Set.of());
+        verify(mailOutboxService, times(2)).claim(anyInt());
+    }
+
+    @Test
+    @DisplayName("발송 스레드가 작업을 받지 못하면, 가져온 메일의 임대를 풀고 다음 주기에 다시 가져온다.")
+    void dispatch_whenExecutorRejects_thenRelease() {
+        // given
+        mailOutboxDispatcher = new MailOutboxDispatcher(mailOutboxService, emailService, task -> {
+            throw new RejectedExecutionException("busy");
+        });
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "enabled", true);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "batchSize", 50);
+        when(mailOutboxService.claim(50)).thenReturn(List.of(outbox(1L, WINNER)));
+
+        // when
+        mailOutboxDispatcher.dispatch();
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        verify(mailOutboxService, times(2)).release(List.of(1L));
+        verify(emailService, never()).sendConfirmationEmails(anyList());
+    }
+
+    @Test
+    @DisplayName("발송할 메일이 없으면 메일을 보내지 않는다.")
+    void dispatch_whenNothingClaimed_thenSkip() {
+        // given
+        when(mailOutboxService.claim(50)).thenReturn(List.of());
+
+        // when
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        verify(emailService, never()).sendConfirmationEmails(anyList());
+    }
+
+    @Test
+    @DisplayName("아웃박스 발송이 비활성화되어 있으면 아무것도 가져오지 않는다.")
+    void dispatch_whenDisabled_thenSkip() {
+        // given
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "enabled", false);
+
+        // when
+        mailOutboxDispatcher.dispatch();
+
+        // then
+        verify(mailOutboxService, never()).claim(50);
+    }
+
+    private MailOutbox outbox(Long id, String recipient) {
+        MailOutbox mailOutbox = MailOutbox.confirmation(recipient);
+        ReflectionTestUtils.setField(mailOutbox, "id", id);
+        return mailOutbox;
+    }
+}
@@ -0,0 +1,133 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.domain.MailOutbox;
+import com.terning.farewell_server.mail.domain.MailOutboxRepository;
+import com.terning.farewell_server.mail.domain.MailOutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    private MailOutboxService mailOutboxService;
+
+    private static final String WINNER = "winner@example.com";
+    private static final String BOUNCED = "bounced@example.com";
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxService = new MailOutboxService(mailOutboxRepository, emailService, Runnable::run);
+        ReflectionTestUtils.setField(mailOutboxService, "enabled", true);
+        ReflectionTestUtils.setField(mailOutboxService, "leaseMs", 60000L);
+        ReflectionTestUtils.setField(mailOutboxService, "retryBackoffMs", 1000L);
+        ReflectionTestUtils.setField(mailOutboxService, "maxAttempts", 2);
+    }
+
+    @Test
+    @DisplayName("발송 대상을 가져오면, 다른 인스턴스가 다시 가져가지 않도록 임대 만료 시각까지 다음 시도를 미룬다.")
+    void claim_shouldLeaseClaimedRows() {
+        // given
+        MailOutbox mailOutbox = MailOutbox.confirmation(WINNER);
+        when(mailOutboxRepository.findDispatchable(eq(MailOutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(mailOutbox));
+
+        // when
+        List<MailOutbox> claimed = mailOutboxService.claim(10);
+
+        // then
+        assertThat(claimed).containsExactly(mailOutbox);
+        assertThat(mailOutbox.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+        assertThat(mailOutbox.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("발송 결과를 반영하면, 성공한 메일은 SENT로, 실패한 메일은 재시도 대기 상태로 남긴다.")
+    void complete_shouldMarkSentAndScheduleRetry() {
+        // given
+        MailOutbox sent = outbox(1L, WINNER);
+        MailOutbox failed = outbox(2L, BOUNCED);
+        when(mailOutboxRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(sent, failed));
+
+        // when
+        mailOutboxService.complete(List.of(1L, 2L), Set.of(BOUNCED));
+
+        // then
+        assertThat(sent.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+        assertThat(failed.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수를 넘긴 메일은 FAILED로 처리하고 더 이상 발송하지 않는다.")
+    void complete_whenMaxAttemptsExceeded_thenMarkFailed() {
+        // given
+        MailOutbox failed = outbox(1L, BOUNCED);
+        when(mailOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(failed));
+
+        // when
+        mailOutboxService.complete(List.of(1L), Set.of(BOUNCED));
+        mailOutboxService.complete(List.of(1L), Set.of(BOUNCED));
+
+        // then
+        assertThat(failed.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아웃박스가 켜져 있으면, 확정 메일을 바로 보내지 않고 아웃박스에 적재한다.")
+    void enqueueConfirmations_whenEnabled_thenSaveOutbox() {
+        // when
+        mailOutboxService.enqueueConfirmations(List.of(WINNER));
+
+        // then
+        verify(mailOutboxRepository, times(1)).saveAll(anyList());
+        verify(emailService, never()).sendConfirmationEmails(anyList());
+    }
+
+    @Test
+    @DisplayName("아웃박스가 꺼져 있으면, 확정 메일을 적재하지 않고 바로 발송한다.")
+    void enqueueConfirmations_whenDisabled_thenSendDirectly() {
+        // given
+        ReflectionTestUtils.setField(mailOutboxService, "enabled", false);
+        when(emailService.sendConfirmationEmails(List.of(WINNER))).thenReturn(new ConfirmationSendResult(List.of(), List.of()));
+
+        // when
+        mailOutboxService.enqueueConfirmations(List.of(WINNER));
+
+        // then
+        verify(emailService, times(1)).sendConfirmationEmails(List.of(WINNER));
+        verify(mailOutboxRepository, never()).saveAll(anyList());
+    }
+
+    private MailOutbox outbox(Long id, String recipient) {
+        MailOutbox mailOutbox = MailOutbox.confirmation(recipient);
+        ReflectionTestUtils.setField(mailOutbox, "id", id);
+        return mailOutbox;
+    }
+}
@@ -0,0 +1,123 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailRateLimiterTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @InjectMocks
+    private MailRateLimiter mailRateLimiter;
+
+    private final RRateLimiter verificationLimiter = mock(RRateLimiter.class);
+    private final RRateLimiter confirmationLimiter = mock(RRateLimiter.class);
+    private final RRateLimiter dailyLimiter = mock(RRateLimiter.class);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mailRateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(mailRateLimiter, "keyPrefix", "mail:rate-limit:");
+        ReflectionTestUtils.setField(mailRateLimiter, "dailyQuota", 2000L);
+        ReflectionTestUtils.setField(mailRateLimiter, "verificationPermitsPerSecond", 5L);
+        ReflectionTestUtils.setField(mailRateLimiter, "verificationMaxWaitMs", 3000L);
+        ReflectionTestUtils.setField(mailRateLimiter, "confirmationPermitsPerSecond", 5L);
+        ReflectionTestUtils.setField(mailRateLimiter, "confirmationMaxWaitMs", 30000L);
+    }
+
+    @Test
+    @DisplayName("인증 메일과 확정 메일은 서로 다른 버킷에서 토큰을 받는다.")
+    void acquire_shouldUseSeparateBucketPerLane() {
+        // given
+        initWithLimiters();
+        when(verificationLimiter.tryAcquire(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(dailyLimiter.tryAcquire(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+
+        // when
+        mailRateLimiter.acquire(MailLane.VERIFICATION);
+
+        // then
+        verify(verificationLimiter, times(1)).tryAcquire(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(confirmationLimiter, never()).tryAcquire(anyLong(), anyLong(), any(TimeUnit.class));
+        verify(dailyLimiter, times(1)).tryAcquire(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 안에 토큰을 받지 못하면, MAIL_RATE_LIMITED 예외를 던진다.")
+    void acquire_whenTimedOut_thenThrowRateLimited() {
+        // given
+        initWithLimiters();
+        when(dailyLimiter.tryAcquire(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(verificationLimiter.tryAcquire(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> mailRateLimiter.acquire(MailLane.VERIFICATION))
+                .isInstanceOf(MailException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.MAIL_RATE_LIMITED);
+    }
+
+    @Test
+    @DisplayName("하루 발송 한도가 소진되면, 레인 버킷의 토큰을 쓰지 않고 MAIL_RATE_LIMITED 예외를 던진다.")
+    void acquire_whenDailyQuotaExhausted_thenKeepLanePermits() {
+        // given
+        initWithLimiters();
+        when(dailyLimiter.tryAcquire(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> mailRateLimiter.acquire(MailLane.CONFIRMATION))
+                .isInstanceOf(MailException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.MAIL_RATE_LIMITED);
+        verify(confirmationLimiter, never()).tryAcquire(anyLong(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("발송 한도가 비활성화되어 있으면 Redis를 호출하지 않는다.")
+    void acquire_whenDisabled_thenSkip() {
+        // given
+        ReflectionTestUtils.setField(mailRateLimiter, "enabled", false);
+        mailRateLimiter.init();
+
+        // when
+        mailRateLimiter.acquire(MailLane.CONFIRMATION);
+
+        // then
+        verifyNoInteractions(redissonClient);
+    }
+
+    private void initWithLimiters() {
+        when(redissonClient.getRateLimiter("mail:rate-limit:verification")).thenReturn(verificationLimiter);
+        when(redissonClient.getRateLimiter("mail:rate-limit:confirmation")).thenReturn(confirmationLimiter);
+        when(redissonClient.getRateLimiter("mail:rate-limit:daily")).thenReturn(dailyLimiter);
+        when(verificationLimiter.trySetRate(RateType.OVERALL, 5L, 1L, RateIntervalUnit.SECONDS)).thenReturn(true);
+        when(confirmationLimiter.trySetRate(RateType.OVERALL, 5L, 1L, RateIntervalUnit.SECONDS)).thenReturn(true);
+        when(dailyLimiter.trySetRate(RateType.OVERALL, 2000L, 1L, RateIntervalUnit.DAYS)).thenReturn(true);
+        mailRateLimiter.init();
+    }
+}
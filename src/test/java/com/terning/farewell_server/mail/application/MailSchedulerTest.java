@@ -0,0 +1,136 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class MailSchedulerTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    private SimpleMeterRegistry meterRegistry;
+    private MailScheduler mailScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mailScheduler = new MailScheduler(meterRegistry);
+        ReflectionTestUtils.setField(mailScheduler, "maxConcurrency", 2);
+        ReflectionTestUtils.setField(mailScheduler, "reservedForVerification", 1);
+        ReflectionTestUtils.setField(mailScheduler, "verificationMaxWaitMs", 1000L);
+        ReflectionTestUtils.setField(mailScheduler, "confirmationMaxWaitMs", 50L);
+        mailScheduler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("확정 메일이 일반 슬롯을 모두 쓰고 있어도, 인증 메일은 예약 슬롯으로 바로 발송된다.")
+    void verification_shouldUseReservedSlotWhileConfirmationsRun() throws InterruptedException {
+        // given
+        CountDownLatch confirmationStarted = new CountDownLatch(1);
+        CountDownLatch finishConfirmation = new CountDownLatch(1);
+        executorService.submit(() -> mailScheduler.run(MailLane.CONFIRMATION, () -> {
+            confirmationStarted.countDown();
+            waitFor(finishConfirmation);
+        }));
+        confirmationStarted.await(1, TimeUnit.SECONDS);
+
+        // when
+        CountDownLatch verificationSent = new CountDownLatch(1);
+        mailScheduler.run(MailLane.VERIFICATION, verificationSent::countDown);
+
+        // then
+        assertThat(verificationSent.getCount()).isZero();
+        finishConfirmation.countDown();
+    }
+
+    @Test
+    @DisplayName("확정 메일은 인증 메일용 예약 슬롯을 사용하지 못하고, 대기 시간을 넘기면 SMTP_POOL_EXHAUSTED 예외를 던진다.")
+    void confirmation_shouldNotUseReservedSlot() throws InterruptedException {
+        // given
+        CountDownLatch confirmationStarted = new CountDownLatch(1);
+        CountDownLatch finishConfirmation = new CountDownLatch(1);
+        executorService.submit(() -> mailScheduler.run(MailLane.CONFIRMATION, () -> {
+            confirmationStarted.countDown();
+            waitFor(finishConfirmation);
+        }));
+        confirmationStarted.await(1, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> mailScheduler.run(MailLane.CONFIRMATION, () -> { }))
+                .isInstanceOf(MailException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.SMTP_POOL_EXHAUSTED);
+        finishConfirmation.countDown();
+    }
+
+    @Test
+    @DisplayName("슬롯이 비면 대기 중인 인증 메일이 확정 메일보다 먼저 발송된다.")
+    void verification_shouldGoAheadOfWaitingConfirmation() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(mailScheduler, "confirmationMaxWaitMs", 1000L);
+        List<MailLane> sentOrder = new CopyOnWriteArrayList<>();
+        CountDownLatch slotsTaken = new CountDownLatch(2);
+        CountDownLatch finishRunning = new CountDownLatch(1);
+        executorService.submit(() -> mailScheduler.run(MailLane.CONFIRMATION, () -> {
+            slotsTaken.countDown();
+            waitFor(finishRunning);
+        }));
+        executorService.submit(() -> mailScheduler.run(MailLane.VERIFICATION, () -> {
+            slotsTaken.countDown();
+            waitFor(finishRunning);
+        }));
+        slotsTaken.await(1, TimeUnit.SECONDS);
+
+        executorService.submit(() -> mailScheduler.run(MailLane.CONFIRMATION, () -> sentOrder.add(MailLane.CONFIRMATION)));
+        await().atMost(1, TimeUnit.SECONDS).until(() -> mailScheduler.getWaitingCount(MailLane.CONFIRMATION) == 1);
+        executorService.submit(() -> mailScheduler.run(MailLane.VERIFICATION, () -> sentOrder.add(MailLane.VERIFICATION)));
+        await().atMost(1, TimeUnit.SECONDS).until(() -> mailScheduler.getWaitingCount(MailLane.VERIFICATION) == 1);
+
+        // when
+        finishRunning.countDown();
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> sentOrder.size() == 2);
+        assertThat(sentOrder).containsExactly(MailLane.VERIFICATION, MailLane.CONFIRMATION);
+    }
+
+    @Test
+    @DisplayName("레인별 대기 건수, 대기 시간, 발송 시간을 메트릭으로 노출한다.")
+    void metrics_shouldBeRegisteredPerLane() {
+        // when
+        mailScheduler.run(MailLane.VERIFICATION, () -> { });
+
+        // then
+        assertThat(meterRegistry.get("mail.scheduler.wait").tag("lane", "verification").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.scheduler.send").tag("lane", "verification").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.scheduler.queue.depth").tag("lane", "confirmation").gauge().value()).isZero();
+    }
+
+    private void waitFor(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
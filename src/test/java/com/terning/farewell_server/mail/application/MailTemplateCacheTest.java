@@ -0,0 +1,63 @@
+package com.terning.farewell_server.mail.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailTemplateCacheTest {
+
+    @Mock
+    private SpringTemplateEngine templateEngine;
+
+    @InjectMocks
+    private MailTemplateCache mailTemplateCache;
+
+    @BeforeEach
+    void setUp() {
+        when(templateEngine.process(eq("confirmationEmail"), any(Context.class))).thenReturn("<p>확정</p>");
+        when(templateEngine.process(eq("verificationCode"), any(Context.class))).thenAnswer(invocation -> {
+            Context context = invocation.getArgument(1);
+            Object code = context.getVariable("code");
+            return "<p>" + code + "</p><small>" + code + "</small>";
+        });
+        mailTemplateCache.init();
+    }
+
+    @Test
+    @DisplayName("인증 코드 본문은 미리 렌더링한 조각 사이에 코드만 치환해 만든다.")
+    void renderVerificationBody_shouldSubstituteCodeIntoFragments() {
+        // when
+        String body = mailTemplateCache.renderVerificationBody("123456");
+
+        // then
+        assertThat(body).isEqualTo("<p>123456</p><small>123456</small>");
+    }
+
+    @Test
+    @DisplayName("본문을 여러 번 만들어도 템플릿 엔진은 기동 시 한 번씩만 호출된다.")
+    void render_shouldNotInvokeTemplateEngineAgain() {
+        // when
+        mailTemplateCache.getConfirmationBody();
+        mailTemplateCache.renderVerificationBody("111111");
+        mailTemplateCache.renderVerificationBody("222222");
+
+        // then
+        verify(templateEngine, times(2)).process(anyString(), any(Context.class));
+        assertThat(mailTemplateCache.getConfirmationBody()).isEqualTo("<p>확정</p>");
+    }
+}
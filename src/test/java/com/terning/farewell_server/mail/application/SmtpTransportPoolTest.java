@@ -0,0 +1,205 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SmtpTransportPoolTest {
+
+    private final List<Transport> openedTransports = new ArrayList<>();
+    private final Session session = Session.getInstance(new Properties());
+
+    private SmtpTransportPool smtpTransportPool;
+    private boolean refuseConnections;
+
+    @BeforeEach
+    void setUp() {
+        smtpTransportPool = new SmtpTransportPool(null) {
+            @Override
+            Transport connect() throws MessagingException {
+                if (refuseConnections) {
+                    throw new MessagingException("connection refused");
+                }
+                Transport transport = mock(Transport.class);
+                when(transport.isConnected()).thenReturn(true);
+                openedTransports.add(transport);
+                return transport;
+            }
+        };
+        ReflectionTestUtils.setField(smtpTransportPool, "maxSize", 1);
+        ReflectionTestUtils.setField(smtpTransportPool, "maxMessagesPerConnection", 100);
+        ReflectionTestUtils.setField(smtpTransportPool, "borrowTimeoutMs", 10L);
+        smtpTransportPool.init();
+    }
+
+    @Test
+    @DisplayName("여러 번의 발송이 하나의 SMTP 연결을 재사용한다.")
+    void send_shouldReuseConnection() throws MessagingException {
+        // when
+        smtpTransportPool.sendAll(List.of(message("a@example.com"), message("b@example.com")));
+        smtpTransportPool.send(message("c@example.com"));
+
+        // then
+        assertThat(openedTransports).hasSize(1);
+        verify(openedTransports.get(0), times(3)).sendMessage(any(MimeMessage.class), any(Address[].class));
+    }
+
+    @Test
+    @DisplayName("연결당 최대 발송 수를 넘으면 새 연결로 교체한다.")
+    void sendAll_whenConnectionExhausted_thenRecycle() throws MessagingException {
+        // given
+        ReflectionTestUtils.setField(smtpTransportPool, "maxMessagesPerConnection", 2);
+
+        // when
+        BulkSendResult result = smtpTransportPool.sendAll(
+                List.of(message("a@example.com"), message("b@example.com"), message("c@example.com")));
+
+        // then
+        assertThat(result.sentCount()).isEqualTo(3);
+        assertThat(openedTransports).hasSize(2);
+        verify(openedTransports.get(0), times(1)).close();
+    }
+
+    @Test
+    @DisplayName("수신자가 거부된 메시지만 실패로 기록하고, 나머지는 같은 연결로 계속 발송한다.")
+    void sendAll_whenRecipientRejected_thenContinue() throws MessagingException {
+        // given
+        MimeMessage rejected = message("rejected@example.com");
+        MimeMessage accepted = message("ok@example.com");
+        smtpTransportPool.sendAll(List.of());
+        doThrow(new SendFailedException("rejected"))
+                .when(openedTransports.get(0)).sendMessage(eq(rejected), any(Address[].class));
+
+        // when
+        BulkSendResult result = smtpTransportPool.sendAll(List.of(rejected, accepted));
+
+        // then
+        assertThat(result.sentCount()).isEqualTo(1);
+        assertThat(result.failedMessages()).containsExactly(rejected);
+        assertThat(openedTransports).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 뒤 재연결에 실패하면 남은 메시지를 모두 실패로 기록하고 연결 슬롯을 반납한다.")
+    void sendAll_whenReconnectFails_thenFailRemainingMessages() throws MessagingException {
+        // given
+        MimeMessage first = message("a@example.com");
+        MimeMessage second = message("b@example.com");
+        MimeMessage third = message("c@example.com");
+        smtpTransportPool.sendAll(List.of());
+        doThrow(new MessagingException("connection reset"))
+                .when(openedTransports.get(0)).sendMessage(any(MimeMessage.class), any(Address[].class));
+        refuseConnections = true;
+
+        // when
+        BulkSendResult result = smtpTransportPool.sendAll(List.of(first, second, third));
+
+        // then
+        assertThat(result.sentCount()).isZero();
+        assertThat(result.failedMessages()).containsExactly(first, second, third);
+        verify(openedTransports.get(0), times(1)).close();
+
+        refuseConnections = false;
+        smtpTransportPool.send(message("d@example.com"));
+        assertThat(openedTransports).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("일괄 발송은 연결을 한 번만 빌리고, 메시지마다 발송 직전에 사전 작업을 실행한다.")
+    void sendAll_withBeforeEachSend_shouldBorrowOnceAndRunBeforeEveryMessage() throws MessagingException {
+        // given
+        AtomicInteger beforeEachCount = new AtomicInteger();
+        Semaphore permits = (Semaphore) ReflectionTestUtils.getField(smtpTransportPool, "permits");
+
+        // when
+        BulkSendResult result = smtpTransportPool.sendAll(
+                List.of(message("a@example.com"), message("b@example.com"), message("c@example.com")),
+                () -> {
+                    assertThat(permits.availablePermits()).isZero();
+                    beforeEachCount.incrementAndGet();
+                });
+
+        // then
+        assertThat(result.sentCount()).isEqualTo(3);
+        assertThat(beforeEachCount).hasValue(3);
+        assertThat(openedTransports).hasSize(1);
+        assertThat(permits.availablePermits()).isEqualTo(1);
+        verify(openedTransports.get(0), times(3)).sendMessage(any(MimeMessage.class), any(Address[].class));
+    }
+
+    @Test
+    @DisplayName("사전 작업이 발송 한도 초과로 실패하면, 남은 메시지를 실패가 아닌 보류로 돌려주고 연결을 반납한다.")
+    void sendAll_whenBeforeEachSendRejects_thenDeferRemainingMessages() throws MessagingException {
+        // given
+        MimeMessage first = message("a@example.com");
+        MimeMessage second = message("b@example.com");
+        MimeMessage third = message("c@example.com");
+        AtomicInteger beforeEachCount = new AtomicInteger();
+
+        // when
+        BulkSendResult result = smtpTransportPool.sendAll(List.of(first, second, third), () -> {
+            if (beforeEachCount.incrementAndGet() > 1) {
+                throw new MailException(MailErrorCode.MAIL_RATE_LIMITED);
+            }
+        });
+
+        // then
+        assertThat(result.sentCount()).isEqualTo(1);
+        assertThat(result.failedMessages()).isEmpty();
+        assertThat(result.deferredMessages()).containsExactly(second, third);
+        verify(openedTransports.get(0), times(1)).sendMessage(any(MimeMessage.class), any(Address[].class));
+
+        smtpTransportPool.send(message("d@example.com"));
+        assertThat(openedTransports).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("모든 연결이 사용 중이면 대기 후 SMTP_POOL_EXHAUSTED 예외를 던진다.")
+    void send_whenPoolExhausted_thenThrowException() {
+        // given
+        ReflectionTestUtils.setField(smtpTransportPool, "permits", new Semaphore(0));
+
+        // when & then
+        assertThatThrownBy(() -> smtpTransportPool.send(message("a@example.com")))
+                .isInstanceOf(MailException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.SMTP_POOL_EXHAUSTED);
+    }
+
+    private MimeMessage message(String to) {
+        try {
+            MimeMessage message = new MimeMessage(session);
+            message.setRecipient(Message.RecipientType.TO, new InternetAddress(to));
+            message.setText("body");
+            return message;
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
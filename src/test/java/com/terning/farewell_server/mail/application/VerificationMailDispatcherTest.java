@@ -0,0 +1,159 @@
+package com.terning.farewell_server.mail.application;
+
+import com.terning.farewell_server.global.common.RedisService;
+import com.terning.farewell_server.mail.domain.MailDeliveryStatus;
+import com.terning.farewell_server.mail.exception.MailErrorCode;
+import com.terning.farewell_server.mail.exception.MailException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationMailDispatcherTest {
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private RedisService redisService;
+
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+
+    private VerificationMailDispatcher verificationMailDispatcher;
+
+    private static final String EMAIL = "test@example.com";
+    private static final String CODE = "123456";
+    private static final String DELIVERY_STATUS_PREFIX = "verification:delivery:";
+    private static final String REQUEST_ID = "5f0c6e1a-0000-4000-8000-000000000000";
+
+    @BeforeEach
+    void setUp() {
+        verificationMailDispatcher = new VerificationMailDispatcher(
+                emailService, redisService, queuedTasks::add, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(verificationMailDispatcher, "queueCapacity", 1);
+        verificationMailDispatcher.init();
+    }
+
+    @Test
+    @DisplayName("인증 메일을 대기열에 넣으면, 발송을 기다리지 않고 QUEUED 상태를 기록한다.")
+    void dispatch_shouldQueueWithoutSending() {
+        // when
+        String requestId = verificationMailDispatcher.dispatch(EMAIL, CODE);
+
+        // then
+        assertThat(queuedTasks).hasSize(1);
+        verify(emailService, never()).sendVerificationCode(anyString(), anyString());
+        verify(redisService).setDataWithExpiration(DELIVERY_STATUS_PREFIX + requestId, MailDeliveryStatus.QUEUED.name(), Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("대기열의 인증 메일이 발송되면 SENT 상태로 갱신하고 대기열 자리를 반환한다.")
+    void dispatch_whenDelivered_thenMarkSent() {
+        // given
+        String requestId = verificationMailDispatcher.dispatch(EMAIL, CODE);
+
+        // when
+        queuedTasks.get(0).run();
+
+        // then
+        InOrder inOrder = inOrder(emailService, redisService);
+        inOrder.verify(emailService).sendVerificationCode(EMAIL, CODE);
+        inOrder.verify(redisService).setDataWithExpiration(DELIVERY_STATUS_PREFIX + requestId, MailDeliveryStatus.SENT.name(), Duration.ofMinutes(5));
+        assertThat(verificationMailDispatcher.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("인증 메일 발송에 실패하면 FAILED 상태로 갱신한다.")
+    void dispatch_whenDeliveryFails_thenMarkFailed() {
+        // given
+        doThrow(new MailException(MailErrorCode.EMAIL_SEND_FAILURE)).when(emailService).sendVerificationCode(EMAIL, CODE);
+        String requestId = verificationMailDispatcher.dispatch(EMAIL, CODE);
+
+        // when
+        queuedTasks.get(0).run();
+
+        // then
+        verify(redisService).setDataWithExpiration(DELIVERY_STATUS_PREFIX + requestId, MailDeliveryStatus.FAILED.name(), Duration.ofMinutes(5));
+        assertThat(verificationMailDispatcher.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면, VERIFICATION_QUEUE_FULL 예외를 던지고 대기열에 넣지 않는다.")
+    void dispatch_whenQueueFull_thenThrowException() {
+        // given
+        verificationMailDispatcher.dispatch(EMAIL, CODE);
+
+        // when & then
+        assertThatThrownBy(() -> verificationMailDispatcher.dispatch("other@example.com", CODE))
+                .isInstanceOf(MailException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.VERIFICATION_QUEUE_FULL);
+        assertThat(queuedTasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("발송 스레드 풀이 포화되어 작업을 거절하면, 요청 스레드에서 발송하지 않고 대기열 자리를 반환한 뒤 VERIFICATION_QUEUE_FULL 예외를 던진다.")
+    void dispatch_whenExecutorSaturated_thenReleasePermitAndThrow() {
+        // given
+        VerificationMailDispatcher saturatedDispatcher = new VerificationMailDispatcher(
+                emailService, redisService, task -> {
+                    throw new RejectedExecutionException("saturated");
+                }, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(saturatedDispatcher, "queueCapacity", 1);
+        saturatedDispatcher.init();
+
+        // when & then
+        assertThatThrownBy(() -> saturatedDispatcher.dispatch(EMAIL, CODE))
+                .isInstanceOf(MailException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MailErrorCode.VERIFICATION_QUEUE_FULL);
+        assertThat(saturatedDispatcher.getPendingCount()).isZero();
+        verify(emailService, never()).sendVerificationCode(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("발송 상태는 이메일이 아닌, 요청마다 새로 발급한 요청 ID로 저장한다.")
+    void dispatch_shouldKeyStatusByOpaqueRequestId() {
+        // given
+        ReflectionTestUtils.setField(verificationMailDispatcher, "capacity", new Semaphore(2));
+
+        // when
+        String first = verificationMailDispatcher.dispatch(EMAIL, CODE);
+        String second = verificationMailDispatcher.dispatch(EMAIL, CODE);
+
+        // then
+        assertThat(first).isNotEqualTo(second).doesNotContain(EMAIL);
+        verify(redisService, never()).setDataWithExpiration(eq(DELIVERY_STATUS_PREFIX + EMAIL), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("저장된 발송 상태를 요청 ID로 조회한다.")
+    void getDeliveryStatus_shouldReadStoredStatus() {
+        // given
+        when(redisService.getData(DELIVERY_STATUS_PREFIX + REQUEST_ID)).thenReturn(MailDeliveryStatus.SENT.name());
+
+        // when & then
+        assertThat(verificationMailDispatcher.getDeliveryStatus(REQUEST_ID)).contains(MailDeliveryStatus.SENT);
+    }
+}
@@ -0,0 +1,277 @@
+package com.terning.farewell_server.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.terning.farewell_server.FarewellServerApplication;
+import com.terning.farewell_server.application.domain.Application;
+import com.terning.farewell_server.application.domain.ApplicationRepository;
+import com.terning.farewell_server.application.domain.ApplicationStatus;
+import com.terning.farewell_server.auth.jwt.JwtUtil;
+import com.terning.farewell_server.event.application.EventAdminService;
+import com.terning.farewell_server.event.dto.request.SetStockRequest;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class LoadTestHarness {
+
+    private static final String APPLY_PATH = "/api/event/apply";
+    private static final String AWAIT_PATH = "/api/event/status/await";
+    private static final String PENDING_STATUS = "PENDING";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(40);
+    private static final Duration RESOLVE_TIMEOUT = Duration.ofSeconds(90);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final ConfigurableApplicationContext context;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final int users;
+    private final int stock;
+    private final double duplicateRate;
+
+    private final ConcurrentLinkedQueue<Long> applyLatencies = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> resolveLatencies = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, AtomicLong> responseCodes = new ConcurrentHashMap<>();
+    private final AtomicLong lastApplyCompletedAt = new AtomicLong();
+
+    public LoadTestHarness(ConfigurableApplicationContext context, HttpClient httpClient,
+                           int users, int stock, double duplicateRate) {
+        this.context = context;
+        this.httpClient = httpClient;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        this.users = users;
+        this.stock = stock;
+        this.duplicateRate = duplicateRate;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 1500);
+        int stock = Integer.getInteger("loadtest.stock", 100);
+        double duplicateRate = Double.parseDouble(System.getProperty("loadtest.duplicate-rate", "0.1"));
+        boolean writeBehind = Boolean.getBoolean("loadtest.write-behind");
+
+        boolean passed;
+        try (KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.3"));
+             GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379)) {
+            kafka.start();
+            redis.start();
+
+            try (ConfigurableApplicationContext context = startApplication(kafka, redis, writeBehind);
+                 ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(httpExecutor)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build();
+                passed = new LoadTestHarness(context, httpClient, users, stock, duplicateRate).run();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startApplication(KafkaContainer kafka, GenericContainer<?> redis,
+                                                                   boolean writeBehind) {
+        return new SpringApplicationBuilder(FarewellServerApplication.class).run(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.kafka.bootstrap-servers=" + kafka.getBootstrapServers(),
+                "--spring.data.redis.host=" + redis.getHost(),
+                "--spring.data.redis.port=" + redis.getMappedPort(6379),
+                "--event.write-behind.enabled=" + writeBehind,
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN"
+        );
+    }
+
+    public boolean run() throws Exception {
+        context.getBean(EventAdminService.class).setEventStock(new SetStockRequest(stock));
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+
+        List<String> emails = new ArrayList<>(users);
+        List<String> tokens = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            String email = "loadtest_" + i + "@example.com";
+            emails.add(email);
+            tokens.add(jwtUtil.generateTemporaryToken(email));
+        }
+        int duplicateEvery = duplicateRate > 0 ? Math.max(1, (int) Math.round(1 / duplicateRate)) : 0;
+
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<UserResult>> futures = new ArrayList<>(users);
+        long startedAt;
+        long finishedAt;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                boolean duplicate = duplicateEvery > 0 && i % duplicateEvery == 0;
+                String email = emails.get(i);
+                String token = tokens.get(i);
+                futures.add(executor.submit(() -> runUser(email, token, duplicate, startGate)));
+            }
+            startedAt = System.nanoTime();
+            startGate.countDown();
+        }
+        finishedAt = System.nanoTime();
+
+        List<UserResult> results = new ArrayList<>(users);
+        for (Future<UserResult> future : futures) {
+            results.add(future.get());
+        }
+
+        List<Application> applications = awaitPersistedApplications();
+        return report(results, applications, startedAt, finishedAt, duplicateEvery);
+    }
+
+    private UserResult runUser(String email, String token, boolean duplicate, CountDownLatch startGate) throws Exception {
+        startGate.await();
+        long startedAt = System.nanoTime();
+
+        int applyStatus = apply(token);
+        if (duplicate) {
+            apply(token);
+        }
+
+        if (applyStatus != 202) {
+            return new UserResult(email, applyStatus, null);
+        }
+
+        String resolvedStatus = awaitResult(token, startedAt + RESOLVE_TIMEOUT.toNanos());
+        if (!PENDING_STATUS.equals(resolvedStatus)) {
+            resolveLatencies.add(System.nanoTime() - startedAt);
+        }
+        return new UserResult(email, applyStatus, resolvedStatus);
+    }
+
+    private int apply(String token) throws IOException, InterruptedException {
+        HttpRequest request = authorizedRequest(APPLY_PATH, token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        long startedAt = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        long completedAt = System.nanoTime();
+
+        applyLatencies.add(completedAt - startedAt);
+        lastApplyCompletedAt.accumulateAndGet(completedAt, Math::max);
+        responseCodes.computeIfAbsent(response.statusCode(), key -> new AtomicLong()).incrementAndGet();
+        return response.statusCode();
+    }
+
+    private String awaitResult(String token, long deadline) throws IOException, InterruptedException {
+        HttpRequest request = authorizedRequest(AWAIT_PATH, token).GET().build();
+        while (System.nanoTime() < deadline) {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                JsonNode result = objectMapper.readTree(response.body()).path("result");
+                return result.path("status").asText();
+            }
+        }
+        return PENDING_STATUS;
+    }
+
+    private HttpRequest.Builder authorizedRequest(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token);
+    }
+
+    private List<Application> awaitPersistedApplications() throws InterruptedException {
+        ApplicationRepository applicationRepository = context.getBean(ApplicationRepository.class);
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (applicationRepository.count() < users && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(200);
+        }
+        return applicationRepository.findAll();
+    }
+
+    private boolean report(List<UserResult> results, List<Application> applications,
+                           long startedAt, long finishedAt, int duplicateEvery) {
+        long applyRequests = applyLatencies.size();
+        double applySeconds = (lastApplyCompletedAt.get() - startedAt) / 1_000_000_000.0;
+        double totalSeconds = (finishedAt - startedAt) / 1_000_000_000.0;
+        long duplicateUsers = duplicateEvery > 0 ? (users + duplicateEvery - 1) / duplicateEvery : 0;
+
+        Map<String, Long> resolvedStatuses = results.stream()
+                .filter(result -> result.resolvedStatus() != null)
+                .collect(Collectors.groupingBy(UserResult::resolvedStatus, TreeMap::new, Collectors.counting()));
+        long httpSuccesses = resolvedStatuses.getOrDefault(ApplicationStatus.SUCCESS.name(), 0L);
+        long unresolved = resolvedStatuses.getOrDefault(PENDING_STATUS, 0L);
+
+        long storedSuccesses = applications.stream()
+                .filter(application -> application.getStatus() == ApplicationStatus.SUCCESS)
+                .count();
+        long duplicateRows = applications.size() - applications.stream()
+                .map(Application::getEmail)
+                .distinct()
+                .count();
+        long expectedSuccesses = Math.min(stock, users);
+
+        List<String> violations = new ArrayList<>();
+        if (storedSuccesses != expectedSuccesses) {
+            violations.add("DB 당첨 " + storedSuccesses + "건 (기대 " + expectedSuccesses + "건)");
+        }
+        if (httpSuccesses != storedSuccesses) {
+            violations.add("API 당첨 응답 " + httpSuccesses + "건과 DB 당첨 " + storedSuccesses + "건 불일치");
+        }
+        if (duplicateRows > 0) {
+            violations.add("중복 신청 " + duplicateRows + "건");
+        }
+        if (unresolved > 0) {
+            violations.add("결과 미확정 " + unresolved + "명");
+        }
+
+        System.out.println();
+        System.out.println("===== 선착순 부하 테스트 결과 =====");
+        System.out.printf("사용자: %d명 (중복 신청 %d명), 재고: %d개%n", users, duplicateUsers, stock);
+        System.out.printf("전체 소요 시간: %.2fs%n", totalSeconds);
+        System.out.printf("신청 처리량: %.1f req/s (%d건 / %.2fs)%n", applyRequests / applySeconds, applyRequests, applySeconds);
+        System.out.println("신청 응답 시간: " + percentiles(applyLatencies));
+        System.out.println("신청→결과 확정 시간: " + percentiles(resolveLatencies));
+        System.out.println("신청 응답 코드: " + new TreeMap<>(responseCodes));
+        System.out.println("확정 결과(API): " + resolvedStatuses);
+        System.out.printf("저장된 신청: %d건 (당첨 %d건)%n", applications.size(), storedSuccesses);
+        System.out.println("정합성: " + (violations.isEmpty() ? "통과" : "실패 " + violations));
+        return violations.isEmpty();
+    }
+
+    private String percentiles(ConcurrentLinkedQueue<Long> latencies) {
+        if (latencies.isEmpty()) {
+            return "측정값 없음";
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        Function<Double, String> percentile = p -> {
+            int index = (int) Math.ceil(p * sorted.size()) - 1;
+            return String.format("%.1fms", sorted.get(Math.max(index, 0)) / 1_000_000.0);
+        };
+        return String.format("p50=%s, p95=%s, p99=%s (n=%d)",
+                percentile.apply(0.50), percentile.apply(0.95), percentile.apply(0.99), sorted.size());
+    }
+
+    private record UserResult(String email, int applyStatus, String resolvedStatus) {
+    }
+}